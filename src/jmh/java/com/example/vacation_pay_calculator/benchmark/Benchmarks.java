@@ -0,0 +1,44 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.calendar.CalendarConfiguration;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.impl.HolidayServiceImpl;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicyConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Общие заготовки для бенчмарков: сервисы собираются без Spring-контекста
+ */
+final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    static CalculationMetrics metrics() {
+        return new CalculationMetrics(new SimpleMeterRegistry());
+    }
+
+    static HolidayService holidayService() {
+        return new HolidayServiceImpl(new TenantCalendarRegistry(calendarRegistry()), metrics());
+    }
+
+    static PaidDaysPolicies paidDaysPolicies() {
+        return new PaidDaysPolicyConfiguration().paidDaysPolicies(holidayService(), List.of(), "calendar-days");
+    }
+
+    static ProductionCalendarRegistry calendarRegistry() {
+        try {
+            return new CalendarConfiguration().productionCalendarRegistry("classpath*:calendars/*.cal", "ru");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.calendar.CalendarBundle;
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Загрузка календарей регионов при старте: собранный при сборке {@code calendars/calendars.bin}
+ * против разбора исходных {@code calendars/*.cal}. Файлы читаются в память при подготовке,
+ * поэтому сравнивается только разбор, без чтения с диска.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarLoadBenchmark {
+
+    private static final String PRECOMPILED_BUNDLE = "calendars/calendars.bin";
+
+    private byte[] precompiled;
+    private Map<String, String> sources;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = new ClassPathResource(PRECOMPILED_BUNDLE).getInputStream()) {
+            precompiled = in.readAllBytes();
+        }
+
+        sources = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:calendars/*.cal")) {
+            try (InputStream in = resource.getInputStream()) {
+                sources.put(StringUtils.stripFilenameExtension(resource.getFilename()),
+                        new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, ProductionCalendar> precompiled() throws IOException {
+        return CalendarBundle.read(PRECOMPILED_BUNDLE, new ByteArrayInputStream(precompiled)).getCalendars();
+    }
+
+    @Benchmark
+    public Map<String, ProductionCalendar> parsed() throws IOException {
+        Map<String, ProductionCalendar> calendars = new HashMap<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            calendars.put(source.getKey(), CalendarSourceParser.parse(source.getKey(), new StringReader(source.getValue())));
+        }
+        return calendars;
+    }
+}
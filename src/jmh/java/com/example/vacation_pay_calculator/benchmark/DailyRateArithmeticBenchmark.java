@@ -0,0 +1,49 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.service.impl.BigDecimalPayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.FixedPointPayCalculationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Денежная арифметика расчёта: деление на 29.3 и округление HALF_UP
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DailyRateArithmeticBenchmark {
+
+    private final BigDecimalPayCalculationEngine bigDecimalEngine = new BigDecimalPayCalculationEngine();
+    private final FixedPointPayCalculationEngine fixedPointEngine = new FixedPointPayCalculationEngine();
+
+    private double averageSalary = 48750.55;
+    private long paidDays = 28;
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimalEngine.vacationPay(averageSalary, paidDays);
+    }
+
+    @Benchmark
+    public BigDecimal fixedPoint() {
+        return fixedPointEngine.vacationPay(averageSalary, paidDays);
+    }
+
+    @Benchmark
+    public long fixedPointKopecks() {
+        return fixedPointEngine.vacationPayKopecks(averageSalary, paidDays);
+    }
+}
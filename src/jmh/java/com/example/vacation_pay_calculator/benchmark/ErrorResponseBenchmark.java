@@ -0,0 +1,92 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.controller.advice.ErrorResponse;
+import com.example.vacation_pay_calculator.controller.advice.GlobalExceptionHandler;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ответ об ошибке от исключения до байтов тела: {@link GlobalExceptionHandler} с {@link ErrorResponse#toJson()}
+ * и счётчиками {@code vacation.errors} против прежнего пути — {@link IllegalArgumentException} со стеком
+ * и {@link Map} с {@link LocalDateTime}, сериализованные Jackson
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseBenchmark {
+
+    private static final String MESSAGE = "The end date must be later than or equal to the start date";
+
+    @Param({"invalid-input", "validation-failed"})
+    private String scenario;
+
+    private GlobalExceptionHandler handler;
+    private ObjectWriter writer;
+    private BindException bindException;
+    private Map<String, String> fieldErrors;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(Benchmarks.metrics());
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(
+                new CalculateVacationPayRequest(-1.0, 0, null, null, null, null, null, null), "request");
+        bindingResult.addError(new FieldError("request", "averageSalary", "The average salary should be a positive number"));
+        bindingResult.addError(new FieldError("request", "vacationDays", "The number of vacation days must be at least 1"));
+        bindException = new BindException(bindingResult);
+
+        fieldErrors = new LinkedHashMap<>();
+        for (FieldError error : bindingResult.getFieldErrors()) {
+            fieldErrors.put(error.getField(), error.getDefaultMessage());
+        }
+    }
+
+    @Benchmark
+    public byte[] precomputed() {
+        ErrorResponse response = "invalid-input".equals(scenario)
+                ? handler.handleIllegalArgument(new InvalidInputException(MESSAGE)).getBody()
+                : handler.handleBindException(bindException).getBody();
+        return response.toJson();
+    }
+
+    @Benchmark
+    public byte[] jackson() throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", 400);
+        if ("invalid-input".equals(scenario)) {
+            body.put("error", "Invalid input");
+            body.put("message", new IllegalArgumentException(MESSAGE).getMessage());
+        } else {
+            body.put("error", "Validation failed");
+            body.put("details", new LinkedHashMap<>(fieldErrors));
+        }
+        return writer.writeValueAsBytes(body);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.service.HolidayService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск праздников: проверка одного дня и подсчёт за период
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidayLookupBenchmark {
+
+    private HolidayService holidayService;
+
+    private final LocalDate holiday = LocalDate.of(2026, 5, 11);
+    private final LocalDate workingDay = LocalDate.of(2026, 5, 12);
+    private final LocalDate yearStart = LocalDate.of(2024, 1, 1);
+    private final LocalDate yearEnd = LocalDate.of(2026, 12, 31);
+
+    @Setup
+    public void setUp() {
+        holidayService = Benchmarks.holidayService();
+    }
+
+    @Benchmark
+    public boolean isHolidayHit() {
+        return holidayService.isHoliday(holiday);
+    }
+
+    @Benchmark
+    public boolean isHolidayMiss() {
+        return holidayService.isHoliday(workingDay);
+    }
+
+    @Benchmark
+    public long countHolidaysThreeYears() {
+        return holidayService.countHolidays(yearStart, yearEnd);
+    }
+}
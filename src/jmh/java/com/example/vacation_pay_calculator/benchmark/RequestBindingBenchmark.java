@@ -0,0 +1,86 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.binding.CalculateRequestArgumentResolver;
+import com.example.vacation_pay_calculator.binding.CalculateRequestBinder;
+import com.example.vacation_pay_calculator.controller.VacationPayCalculatorController;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Связывание и проверка параметров {@code GET /calculate}: стандартный {@code ModelAttributeMethodProcessor}
+ * с Bean Validation против {@link CalculateRequestArgumentResolver}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBindingBenchmark {
+
+    @Param({"days", "range"})
+    private String scenario;
+
+    private MethodParameter parameter;
+    private ServletWebRequest webRequest;
+    private ServletModelAttributeMethodProcessor standardResolver;
+    private ServletRequestDataBinderFactory binderFactory;
+    private CalculateRequestArgumentResolver fastResolver;
+
+    @Setup
+    public void setUp() throws Exception {
+        parameter = new MethodParameter(VacationPayCalculatorController.class
+                .getMethod("calculate", CalculateVacationPayRequest.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/calculate");
+        request.addParameter("averageSalary", "48750.55");
+        if ("days".equals(scenario)) {
+            request.addParameter("vacationDays", "14");
+        } else {
+            request.addParameter("startDate", "2026-05-01");
+            request.addParameter("endDate", "2026-05-14");
+        }
+        webRequest = new ServletWebRequest(request);
+
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        initializer.setValidator(validator);
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+        standardResolver = new ServletModelAttributeMethodProcessor(true);
+
+        fastResolver = new CalculateRequestArgumentResolver(new CalculateRequestBinder());
+    }
+
+    @Benchmark
+    public Object standard() throws Exception {
+        return standardResolver.resolveArgument(parameter, new ModelAndViewContainer(), webRequest, binderFactory);
+    }
+
+    @Benchmark
+    public Object fast() throws Exception {
+        return fastResolver.resolveArgument(parameter, null, webRequest, null);
+    }
+}
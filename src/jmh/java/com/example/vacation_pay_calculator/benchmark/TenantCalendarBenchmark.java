@@ -0,0 +1,76 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Календари арендаторов: проверка дня по календарю случайного арендатора из всех потоков сразу.
+ * Все календари построены в {@code setUp}, поэтому измеряется только чтение из реестра.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class TenantCalendarBenchmark {
+
+    @Param({"10000"})
+    private int tenants;
+
+    private TenantCalendarRegistry registry;
+    private String[] tenantIds;
+    private final long day = LocalDate.of(2026, 5, 12).toEpochDay();
+
+    @Setup
+    public void setUp() {
+        registry = new TenantCalendarRegistry(Benchmarks.calendarRegistry(),
+                TenantCalendarBenchmark::overlay, 256L << 20, Duration.ZERO);
+        tenantIds = new String[tenants];
+        for (int i = 0; i < tenants; i++) {
+            tenantIds[i] = "tenant-" + i;
+            registry.get(tenantIds[i], null);
+        }
+    }
+
+    @Benchmark
+    public boolean isHolidayRandomTenant() {
+        String tenant = tenantIds[ThreadLocalRandom.current().nextInt(tenantIds.length)];
+        return registry.get(tenant, null).isHoliday(day);
+    }
+
+    /**
+     * Корпоративный выходной — один из дней мая 2026, свой у каждого арендатора
+     */
+    private static ProductionCalendar overlay(String tenant) {
+        int dayOfMonth = 1 + Math.floorMod(tenant.hashCode(), 31);
+        try {
+            return CalendarSourceParser.parse(tenant,
+                    new StringReader(String.format("2026 holidays 05-%02d%n", dayOfMonth)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.service.impl.BigDecimalPayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.FixedPointPayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.VacationPayCalculatorServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VacationPayCalculatorServiceImpl#calculate} в режиме «по дням» и «по датам» на периодах разной длины
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VacationPayCalculatorBenchmark {
+
+    @Param({"days", "range-14d", "range-1y", "range-10y"})
+    private String scenario;
+
+    @Param({"big-decimal", "fixed-point"})
+    private String engine;
+
+    @Param({"calendar-days", "working-days"})
+    private String policy;
+
+    private VacationPayCalculatorService service;
+    private CalculateVacationPayRequest request;
+
+    @Setup
+    public void setUp() {
+        service = new VacationPayCalculatorServiceImpl(
+                "fixed-point".equals(engine) ? new FixedPointPayCalculationEngine() : new BigDecimalPayCalculationEngine(),
+                Benchmarks.paidDaysPolicies(),
+                null); // запросы бенчмарка передают averageSalary, история начислений не нужна
+
+        LocalDate start = LocalDate.of(2026, 2, 23);
+        switch (scenario) {
+            case "days":
+                request = new CalculateVacationPayRequest(40000.0, 14, null, null, null, null, null, null);
+                break;
+            case "range-14d":
+                request = new CalculateVacationPayRequest(40000.0, null, start, start.plusDays(13), null, policy, null, null);
+                break;
+            case "range-1y":
+                request = new CalculateVacationPayRequest(40000.0, null, start, start.plusYears(1).minusDays(1), null, policy, null, null);
+                break;
+            case "range-10y":
+                request = new CalculateVacationPayRequest(40000.0, null, start.minusYears(5), start.plusYears(5).minusDays(1), null, policy, null, null);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    @Benchmark
+    public CalculateVacationPayResponse calculate() {
+        return service.calculate(request);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.vacation_pay_calculator.benchmark;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кодирование и разбор запроса и ответа {@code /calculate}: JSON (ObjectMapper Spring Boot) против
+ * {@link BinaryWireFormat}. Размеры сообщений проверяет {@code BinaryWireFormatTest}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"days", "range"})
+    private String scenario;
+
+    private ObjectReader requestReader;
+    private ObjectWriter requestWriter;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+
+    private CalculateVacationPayRequest request;
+    private CalculateVacationPayResponse response;
+    private byte[] encodedRequest;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(CalculateVacationPayRequest.class);
+        requestWriter = objectMapper.writerFor(CalculateVacationPayRequest.class);
+        responseReader = objectMapper.readerFor(ResponseBody.class);
+        responseWriter = objectMapper.writerFor(CalculateVacationPayResponse.class);
+
+        request = "days".equals(scenario)
+                ? new CalculateVacationPayRequest(48750.55, 14, null, null, null, null, null, null)
+                : new CalculateVacationPayRequest(48750.55, null, LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 14),
+                "ru", "working-days", null, null);
+        response = new CalculateVacationPayResponse(new BigDecimal("23293.73"));
+
+        encodedRequest = encodeRequest();
+        encodedResponse = encodeResponse();
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        if ("json".equals(format)) {
+            return requestWriter.writeValueAsBytes(request);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        BinaryWireFormat.writeRequest(request, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object decodeRequest() throws IOException {
+        return "json".equals(format)
+                ? requestReader.readValue(encodedRequest)
+                : BinaryWireFormat.readRequest(new ByteArrayInputStream(encodedRequest));
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() throws IOException {
+        if ("json".equals(format)) {
+            return responseWriter.writeValueAsBytes(response);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        BinaryWireFormat.writeSuccess(response.getVacationPay(), out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object decodeResponse() throws IOException {
+        return "json".equals(format)
+                ? responseReader.readValue(encodedResponse)
+                : BinaryWireFormat.readResult(new ByteArrayInputStream(encodedResponse));
+    }
+
+    /**
+     * Ответ на стороне клиента: {@link CalculateVacationPayResponse} не десериализуется Jackson без конструктора по умолчанию
+     */
+    public static class ResponseBody {
+
+        public BigDecimal vacationPay;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Сравнение блокирующего (Tomcat, поток на запрос) и неблокирующего (WebFlux на Netty)
+ * режимов {@code GET /calculate} при числе одновременных клиентов больше пула потоков Tomcat.
+ * <p>
+ * Каждый режим замеряется несколько раз подряд, сравниваются медианы. Допуск не задаётся вручную:
+ * это шум — разброс p99 и запросов в секунду между прогонами блокирующего режима относительно медианы.
+ * Реактивный режим должен быть не хуже блокирующего в пределах шума, а сам шум — не больше
+ * {@code loadtest.maxNoise}, иначе сравнение ничего не показывает. Прогоны, медианы и шум пишутся
+ * в {@code build/reports/loadtest/comparison.json}.
+ * <p>
+ * {@code ./gradlew loadTest -Ploadtest.concurrency=1024 -Ploadtest.duration=30 -Ploadtest.runs=5}
+ */
+public class CalculateEndpointLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 512);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 15));
+    private static final int RUNS = Integer.getInteger("loadtest.runs", 3);
+    private static final double MAX_NOISE = Double.parseDouble(System.getProperty("loadtest.maxNoise", "0.1"));
+    private static final String MIX = System.getProperty("loadtest.mix", RequestMix.DEFAULT_WEIGHTS);
+
+    private static final ToDoubleFunction<LoadResult> P99_MS = result -> result.getP99().toNanos() / 1e6;
+    private static final ToDoubleFunction<LoadResult> RPS = LoadResult::getRequestsPerSecond;
+
+    private final Path report = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/comparison.json"));
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+
+    @Test
+    void reactiveModeShouldServeMoreConcurrentClientsAtNoWorseLatency() throws Exception {
+        List<LoadResult> blocking;
+        try (EmbeddedInstance instance = EmbeddedInstance.start()) {
+            blocking = measure("servlet", new RequestMix(instance.getBaseUri(), MIX));
+        }
+
+        List<LoadResult> reactive;
+        try (EmbeddedInstance instance = EmbeddedInstance.start("reactive")) {
+            reactive = measure("reactive", new RequestMix(instance.getBaseUri(), MIX));
+        }
+
+        double p99Noise = noise(blocking, P99_MS);
+        double rpsNoise = noise(blocking, RPS);
+
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, String.format(Locale.ROOT,
+                "{\"servlet\":%s,\"reactive\":%s,\"noise\":{\"p99\":%.4f,\"requestsPerSecond\":%.4f},\"mix\":\"%s\"}%n",
+                toJson(blocking), toJson(reactive), p99Noise, rpsNoise, MIX), StandardCharsets.UTF_8);
+
+        assertThat(reactive).allSatisfy(run -> assertThat(run.getFailures()).as("failed requests").isZero());
+        assertThat(p99Noise).as("run-to-run p99 noise of the blocking mode").isLessThanOrEqualTo(MAX_NOISE);
+        assertThat(rpsNoise).as("run-to-run throughput noise of the blocking mode").isLessThanOrEqualTo(MAX_NOISE);
+        assertThat(median(reactive, P99_MS)).as("median p99, ms")
+                .isLessThanOrEqualTo(median(blocking, P99_MS) * (1 + p99Noise));
+        assertThat(median(reactive, RPS)).as("median requests per second")
+                .isGreaterThanOrEqualTo(median(blocking, RPS) * (1 - rpsNoise));
+    }
+
+    private List<LoadResult> measure(String mode, RequestMix mix) throws Exception {
+        List<LoadResult> runs = new ArrayList<>(RUNS);
+        for (int run = 0; run < RUNS; run++) {
+            runs.add(loadGenerator.run(mode, CONCURRENCY, WARMUP, DURATION, mix::next));
+        }
+        return runs;
+    }
+
+    /**
+     * Разброс метрики между прогонами одного режима относительно её медианы
+     */
+    private static double noise(List<LoadResult> runs, ToDoubleFunction<LoadResult> metric) {
+        double min = runs.stream().mapToDouble(metric).min().orElseThrow();
+        double max = runs.stream().mapToDouble(metric).max().orElseThrow();
+        return (max - min) / median(runs, metric);
+    }
+
+    private static double median(List<LoadResult> runs, ToDoubleFunction<LoadResult> metric) {
+        double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static String toJson(List<LoadResult> runs) {
+        return String.format(Locale.ROOT, "{\"runs\":[%s],\"medianP99Ms\":%.3f,\"medianRequestsPerSecond\":%.1f}",
+                runs.stream().map(LoadResult::toJson).collect(Collectors.joining(",")),
+                median(runs, P99_MS), median(runs, RPS));
+    }
+}
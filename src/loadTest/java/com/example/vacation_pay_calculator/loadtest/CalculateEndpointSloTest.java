@@ -0,0 +1,57 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Регрессионный набор SLO для {@code GET /calculate}: экземпляр в обычном (servlet) режиме
+ * нагружается смесью запросов в открытой модели — с постоянной частотой {@code loadtest.slo.rate}
+ * независимо от того, как быстро приходят ответы ({@link LoadGenerator#runAtRate}), задержки собираются
+ * в HdrHistogram. Тест падает — и вместе с ним {@code ./gradlew check}, — если p50, p99, p99.9 превышают порог,
+ * пропускная способность ниже порога или есть ответы 5xx. Итог пишется в {@code build/reports/loadtest/slo.json}.
+ * <p>
+ * {@code ./gradlew sloTest -Ploadtest.slo.p99Ms=20 -Ploadtest.slo.rate=6000 -Ploadtest.slo.minRps=5000}
+ */
+public class CalculateEndpointSloTest {
+
+    private static final int RATE = Integer.getInteger("loadtest.slo.rate", 1200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration", 15));
+    private static final String MIX = System.getProperty("loadtest.mix", RequestMix.DEFAULT_WEIGHTS);
+
+    private static final double MAX_P50_MS = Double.parseDouble(System.getProperty("loadtest.slo.p50Ms", "5"));
+    private static final double MAX_P99_MS = Double.parseDouble(System.getProperty("loadtest.slo.p99Ms", "50"));
+    private static final double MAX_P999_MS = Double.parseDouble(System.getProperty("loadtest.slo.p999Ms", "200"));
+    private static final double MIN_RPS = Double.parseDouble(System.getProperty("loadtest.slo.minRps", "1000"));
+
+    private final Path report = Path.of(System.getProperty("loadtest.slo.report", "build/reports/loadtest/slo.json"));
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+
+    @Test
+    void calculateShouldMeetLatencyAndThroughputObjectives() throws Exception {
+        LoadResult result;
+        try (EmbeddedInstance instance = EmbeddedInstance.start()) {
+            result = loadGenerator.runAtRate("servlet", RATE, WARMUP, DURATION,
+                    new RequestMix(instance.getBaseUri(), MIX)::next);
+        }
+
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, String.format(
+                "{\"result\":%s,\"rate\":%d,\"mix\":\"%s\",\"slo\":{\"p50Ms\":%s,\"p99Ms\":%s,\"p999Ms\":%s,\"minRps\":%s}}%n",
+                result.toJson(), RATE, MIX, MAX_P50_MS, MAX_P99_MS, MAX_P999_MS, MIN_RPS), StandardCharsets.UTF_8);
+
+        SoftAssertions slo = new SoftAssertions();
+        slo.assertThat(result.getFailures()).as("failed requests").isZero();
+        slo.assertThat(result.getP50().toNanos() / 1e6).as("p50, ms").isLessThanOrEqualTo(MAX_P50_MS);
+        slo.assertThat(result.getP99().toNanos() / 1e6).as("p99, ms").isLessThanOrEqualTo(MAX_P99_MS);
+        slo.assertThat(result.getP999().toNanos() / 1e6).as("p99.9, ms").isLessThanOrEqualTo(MAX_P999_MS);
+        slo.assertThat(result.getRequestsPerSecond()).as("requests per second").isGreaterThanOrEqualTo(MIN_RPS);
+        slo.assertAll();
+    }
+}
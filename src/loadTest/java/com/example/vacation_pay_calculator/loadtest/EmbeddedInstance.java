@@ -0,0 +1,42 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import com.example.vacation_pay_calculator.VacationPayCalculatorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * Экземпляр сервиса на случайном порту внутри JVM теста
+ */
+final class EmbeddedInstance implements AutoCloseable {
+
+    /**
+     * История начислений в памяти вместо файла {@code ./data/payroll}, который открывает только один процесс
+     */
+    static final String IN_MEMORY_PAYROLL = "--spring.datasource.url=jdbc:h2:mem:payroll;DB_CLOSE_DELAY=-1";
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private EmbeddedInstance(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    static EmbeddedInstance start(String... profiles) {
+        return new EmbeddedInstance(new SpringApplicationBuilder(VacationPayCalculatorApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0")
+                .run(IN_MEMORY_PAYROLL));
+    }
+
+    URI getBaseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
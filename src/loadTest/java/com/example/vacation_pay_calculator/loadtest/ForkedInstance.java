@@ -0,0 +1,115 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Экземпляр сервиса в отдельной JVM: в отличие от {@link EmbeddedInstance}, его старт и память
+ * не смешиваются с JVM теста
+ */
+final class ForkedInstance implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    private final Process process;
+    private final URI probe;
+    private final long startedNanos;
+
+    private ForkedInstance(Process process, URI probe, long startedNanos) {
+        this.process = process;
+        this.probe = probe;
+        this.startedNanos = startedNanos;
+    }
+
+    static ForkedInstance start(String classpath, String mainClass, List<String> jvmArgs, List<String> appArgs, Path log)
+            throws IOException {
+        int port = freePort();
+
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(mainClass);
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        Files.createDirectories(log.getParent());
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+
+        long startedNanos = System.nanoTime();
+        return new ForkedInstance(builder.start(),
+                URI.create("http://localhost:" + port + "/calculate?averageSalary=40000&vacationDays=14"), startedNanos);
+    }
+
+    /**
+     * Опрашивает {@code /calculate}, пока сервис не ответит 200
+     *
+     * @return время от запуска процесса до первого успешного ответа
+     */
+    Duration awaitFirstResponse() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(probe).GET().build();
+        long deadline = startedNanos + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Instance exited with code " + process.exitValue() + " before responding");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedNanos);
+                }
+            } catch (IOException ex) {
+                // порт ещё не открыт
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+
+        throw new IllegalStateException("Instance did not respond within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Resident set size процесса по {@code /proc/<pid>/status} (только Linux)
+     */
+    long rssKilobytes() throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(process.pid()), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+            }
+        }
+        throw new IllegalStateException("VmRSS is not reported for process " + process.pid());
+    }
+
+    static boolean rssSupported() {
+        return new File("/proc/self/status").canRead();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Генератор нагрузки в двух моделях. Ответы 2xx и 4xx считаются успешными:
+ * некорректные запросы входят в смесь намеренно.
+ * <ul>
+ *     <li>закрытая ({@link #run}): {@code concurrency} виртуальных пользователей отправляют запросы
+ *     друг за другом без пауз. Подходит для сравнения режимов при заданном числе клиентов, но скрывает
+ *     coordinated omission: пока сервис тормозит, пользователи ждут и новых запросов не шлют;</li>
+ *     <li>открытая ({@link #runAtRate}): запросы уходят по расписанию с заданной частотой, не дожидаясь ответов
+ *     на предыдущие, а задержка отсчитывается от момента, когда запрос должен был уйти по расписанию.
+ *     Поэтому пауза сервиса попадает в задержку каждого запроса, который она задержала.</li>
+ * </ul>
+ * Задержки пишутся в {@link Histogram} (3 значащие цифры, до {@link #MAX_LATENCY}), поэтому память
+ * не зависит от числа запросов.
+ */
+final class LoadGenerator {
+
+    private static final Duration MAX_LATENCY = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    LoadResult run(String name, int concurrency, Duration warmup, Duration duration, Supplier<URI> requests) throws Exception {
+        runPhase(concurrency, warmup, requests);
+
+        long startedAt = System.nanoTime();
+        List<UserResult> users = runPhase(concurrency, duration, requests);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        Histogram latencies = newHistogram();
+        long failures = 0;
+        for (UserResult user : users) {
+            latencies.add(user.latencies);
+            failures += user.failures;
+        }
+
+        long total = latencies.getTotalCount();
+        return new LoadResult(name, concurrency, total, failures, total / seconds,
+                percentile(latencies, 50.0), percentile(latencies, 99.0), percentile(latencies, 99.9),
+                Duration.ofNanos(latencies.getMaxValue()));
+    }
+
+    /**
+     * Открытая модель: {@code ratePerSecond} запросов в секунду по расписанию.
+     * В {@link LoadResult#getConcurrency()} — наибольшее число запросов, ожидавших ответа одновременно.
+     */
+    LoadResult runAtRate(String name, int ratePerSecond, Duration warmup, Duration duration, Supplier<URI> requests)
+            throws Exception {
+        runSchedule(ratePerSecond, warmup, requests);
+
+        long startedAt = System.nanoTime();
+        Schedule schedule = runSchedule(ratePerSecond, duration, requests);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        Histogram latencies = schedule.latencies;
+        long total = latencies.getTotalCount();
+        return new LoadResult(name, schedule.maxInFlight.get(), total, schedule.failures.sum(), total / seconds,
+                percentile(latencies, 50.0), percentile(latencies, 99.0), percentile(latencies, 99.9),
+                Duration.ofNanos(latencies.getMaxValue()));
+    }
+
+    private Schedule runSchedule(int ratePerSecond, Duration duration, Supplier<URI> requests) throws Exception {
+        Schedule schedule = new Schedule();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long startedAt = System.nanoTime();
+        long count = duration.toNanos() / intervalNanos;
+
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            long intended = startedAt + i * intervalNanos;
+            long delay;
+            while ((delay = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            schedule.maxInFlight.accumulateAndGet(schedule.inFlight.incrementAndGet(), Math::max);
+            HttpRequest request = HttpRequest.newBuilder(requests.get())
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> schedule.record(intended,
+                            ex == null && response.statusCode() < 500)));
+        }
+
+        for (CompletableFuture<?> response : responses) {
+            try {
+                response.get();
+            } catch (ExecutionException ex) {
+                // неуспешный запрос уже учтён в schedule.failures
+            }
+        }
+        return schedule;
+    }
+
+    private List<UserResult> runPhase(int concurrency, Duration duration, Supplier<URI> requests) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<UserResult>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> virtualUser(deadline, requests)));
+            }
+
+            List<UserResult> results = new ArrayList<>(concurrency);
+            for (Future<UserResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            users.shutdownNow();
+        }
+    }
+
+    private UserResult virtualUser(long deadline, Supplier<URI> requests) {
+        UserResult result = new UserResult();
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(requests.get())
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+
+            long startedAt = System.nanoTime();
+            boolean success;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                success = status < 500;
+            } catch (Exception ex) {
+                success = false;
+            }
+            long latency = Math.max(1, System.nanoTime() - startedAt);
+
+            result.latencies.recordValue(Math.min(latency, MAX_LATENCY.toNanos()));
+            if (!success) {
+                result.failures++;
+            }
+        }
+        return result;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(MAX_LATENCY.toNanos(), 3);
+    }
+
+    private static Duration percentile(Histogram histogram, double percentile) {
+        return Duration.ofNanos(histogram.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Задержки и неуспешные запросы открытой модели; пишутся потоками HTTP-клиента
+     */
+    private static final class Schedule {
+
+        private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY.toNanos(), 3);
+        private final LongAdder failures = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private void record(long intended, boolean success) {
+            inFlight.decrementAndGet();
+            long latency = Math.max(1, System.nanoTime() - intended);
+            latencies.recordValue(Math.min(latency, MAX_LATENCY.toNanos()));
+            if (!success) {
+                failures.increment();
+            }
+        }
+    }
+
+    /**
+     * Задержки и число неуспешных запросов одного пользователя; пишутся только его потоком
+     */
+    private static final class UserResult {
+
+        private final Histogram latencies = newHistogram();
+        private long failures;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Итог прогона: пропускная способность и перцентили задержки
+ */
+@Value
+class LoadResult {
+
+    String name;
+    int concurrency;
+    long requests;
+    long failures;
+    double requestsPerSecond;
+    Duration p50;
+    Duration p99;
+    Duration p999;
+    Duration max;
+
+    String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"name\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"failures\":%d,\"requestsPerSecond\":%.1f,"
+                        + "\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,\"maxMs\":%.3f}",
+                name, concurrency, requests, failures, requestsPerSecond,
+                p50.toNanos() / 1e6, p99.toNanos() / 1e6, p999.toNanos() / 1e6, max.toNanos() / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-10s concurrency=%d requests=%d failures=%d rps=%.0f p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms",
+                name, concurrency, requests, failures, requestsPerSecond,
+                p50.toNanos() / 1e6, p99.toNanos() / 1e6, p999.toNanos() / 1e6, max.toNanos() / 1e6);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Набор запросов к {@code GET /calculate}: по дням, по датам и заведомо некорректные.
+ * Доли задаются весами в виде {@code days:45,range:50,invalid:5}; каждый четвёртый запрос по датам
+ * считается по рабочим дням ({@code paidDaysPolicy=working-days}).
+ */
+final class RequestMix {
+
+    static final String DEFAULT_WEIGHTS = "days:45,range:50,invalid:5";
+
+    private static final LocalDate FIRST_START = LocalDate.of(2024, 1, 1);
+
+    private final URI baseUri;
+    private final int daysWeight;
+    private final int rangeWeight;
+    private final int totalWeight;
+
+    RequestMix(URI baseUri, String weights) {
+        int days = 0;
+        int range = 0;
+        int invalid = 0;
+        for (String entry : weights.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <kind>:<weight> but got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            switch (parts[0].trim()) {
+                case "days":
+                    days = weight;
+                    break;
+                case "range":
+                    range = weight;
+                    break;
+                case "invalid":
+                    invalid = weight;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown request kind '" + parts[0] + "'");
+            }
+        }
+        if (days < 0 || range < 0 || invalid < 0 || days + range + invalid == 0) {
+            throw new IllegalArgumentException("Request mix weights must be non-negative with a positive sum: " + weights);
+        }
+
+        this.baseUri = baseUri;
+        this.daysWeight = days;
+        this.rangeWeight = range;
+        this.totalWeight = days + range + invalid;
+    }
+
+    URI next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String salary = String.format("%d.%02d", 20_000 + random.nextInt(180_000), random.nextInt(100));
+
+        int dice = random.nextInt(totalWeight);
+        if (dice < daysWeight) {
+            return baseUri.resolve("/calculate?averageSalary=" + salary + "&vacationDays=" + (1 + random.nextInt(28)));
+        }
+
+        if (dice < daysWeight + rangeWeight) {
+            LocalDate start = FIRST_START.plusDays(random.nextInt(3 * 365));
+            LocalDate end = start.plusDays(random.nextInt(28));
+            String policy = random.nextInt(4) == 0 ? "&paidDaysPolicy=working-days" : "";
+            return baseUri.resolve("/calculate?averageSalary=" + salary + "&startDate=" + start + "&endDate=" + end + policy);
+        }
+
+        return baseUri.resolve("/calculate?averageSalary=-" + salary + "&vacationDays=0");
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Время до первого ответа {@code /calculate} и RSS в обычном режиме и в режиме быстрого старта
+ * (профиль {@code lean} с архивом AppCDS). Каждый режим запускается в отдельной JVM несколько раз, берётся медиана.
+ * Режим быстрого старта должен укладываться в бюджет, быть не хуже обычного и не открывать базу начислений
+ * до первого ответа (в логе нет запуска пула соединений). Бюджеты абсолютные; при сравнении с обычным режимом
+ * допуск — шум, разброс метрики между запусками обычного режима относительно медианы, как в
+ * {@link CalculateEndpointLoadTest}. Результаты и шум пишутся в {@code build/reports/startup/results.json}.
+ * <p>
+ * {@code ./gradlew startupBenchmark -Pstartup.runs=5 -Pstartup.maxTimeToFirstResponseMs=3000}
+ */
+public class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final long MAX_TIME_TO_FIRST_RESPONSE_MS = Long.getLong("startup.maxTimeToFirstResponseMs", 4000);
+    private static final long MAX_RSS_MB = Long.getLong("startup.maxRssMb", 200);
+    private static final String POOL_STARTED = "HikariPool-1 - Start";
+
+    private final String classpath = System.getProperty("startup.classpath");
+    private final String mainClass = System.getProperty("startup.mainClass");
+    private final Path report = Path.of(System.getProperty("startup.report", "build/reports/startup/results.json"));
+
+    @Test
+    void leanModeShouldStartFasterWithSmallerFootprint() throws Exception {
+        assumeTrue(classpath != null, "Run through './gradlew startupBenchmark'");
+        assumeTrue(ForkedInstance.rssSupported(), "RSS is measured through /proc");
+
+        List<StartupResult> standardRuns = measure("default", List.of(), List.of(EmbeddedInstance.IN_MEMORY_PAYROLL));
+        StartupResult standard = median("default", standardRuns);
+        double timeNoise = noise(standardRuns, result -> result.getTimeToFirstResponse().toNanos());
+        double rssNoise = noise(standardRuns, StartupResult::getRssKilobytes);
+
+        List<String> leanJvmArgs = new ArrayList<>(Arrays.asList(System.getProperty("startup.leanJvmArgs", "").split(" ")));
+        leanJvmArgs.removeIf(String::isEmpty);
+        Path archive = Path.of(System.getProperty("startup.archive", "build/cds/app.jsa"));
+        if (Files.exists(archive)) {
+            leanJvmArgs.add("-XX:SharedArchiveFile=" + archive);
+            leanJvmArgs.add("-Xshare:auto");
+        }
+        StartupResult lean = median("lean", measure("lean", leanJvmArgs, List.of("--spring.profiles.active=lean")));
+
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, String.format(Locale.ROOT,
+                "{\"default\":%s,\"lean\":%s,\"noise\":{\"timeToFirstResponse\":%.4f,\"rss\":%.4f}}%n",
+                standard.toJson(), lean.toJson(), timeNoise, rssNoise), StandardCharsets.UTF_8);
+
+        assertThat(lean.isDatabaseOpened()).as("payroll database opened before the first response").isFalse();
+        assertThat(lean.getTimeToFirstResponse().toMillis()).isLessThanOrEqualTo(MAX_TIME_TO_FIRST_RESPONSE_MS);
+        assertThat(lean.getRssKilobytes() / 1024).isLessThanOrEqualTo(MAX_RSS_MB);
+        assertThat(lean.getTimeToFirstResponse().toNanos()).as("median time to first response, ns")
+                .isLessThanOrEqualTo((long) (standard.getTimeToFirstResponse().toNanos() * (1 + timeNoise)));
+        assertThat(lean.getRssKilobytes()).as("median RSS, KiB")
+                .isLessThanOrEqualTo((long) (standard.getRssKilobytes() * (1 + rssNoise)));
+    }
+
+    private List<StartupResult> measure(String mode, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        List<StartupResult> runs = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            Path log = report.resolveSibling(mode + "-" + run + ".log");
+            try (ForkedInstance instance = ForkedInstance.start(classpath, mainClass, jvmArgs, appArgs, log)) {
+                Duration timeToFirstResponse = instance.awaitFirstResponse();
+                boolean databaseOpened = Files.readString(log).contains(POOL_STARTED);
+                runs.add(new StartupResult(mode, timeToFirstResponse, instance.rssKilobytes(), databaseOpened));
+            }
+        }
+        return runs;
+    }
+
+    private static StartupResult median(String mode, List<StartupResult> runs) {
+        Duration medianTime = Duration.ofNanos((long) median(runs, result -> result.getTimeToFirstResponse().toNanos()));
+        long medianRss = (long) median(runs, StartupResult::getRssKilobytes);
+        boolean databaseOpened = runs.stream().anyMatch(StartupResult::isDatabaseOpened);
+        return new StartupResult(mode, medianTime, medianRss, databaseOpened);
+    }
+
+    /**
+     * Разброс метрики между запусками одного режима относительно её медианы
+     */
+    private static double noise(List<StartupResult> runs, ToDoubleFunction<StartupResult> metric) {
+        double min = runs.stream().mapToDouble(metric).min().orElseThrow();
+        double max = runs.stream().mapToDouble(metric).max().orElseThrow();
+        return (max - min) / median(runs, metric);
+    }
+
+    private static double median(List<StartupResult> runs, ToDoubleFunction<StartupResult> metric) {
+        double[] values = runs.stream().mapToDouble(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.vacation_pay_calculator.loadtest;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Время от запуска JVM до первого успешного ответа {@code /calculate}, RSS процесса в этот момент
+ * и была ли к этому моменту открыта база начислений
+ */
+@Value
+class StartupResult {
+
+    String mode;
+    Duration timeToFirstResponse;
+    long rssKilobytes;
+    boolean databaseOpened;
+
+    String toJson() {
+        return String.format("{\"timeToFirstResponseMs\":%d,\"rssMb\":%d,\"databaseOpened\":%b}",
+                timeToFirstResponse.toMillis(), rssKilobytes / 1024, databaseOpened);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-8s time-to-first-response=%dms rss=%dMB database-opened=%b",
+                mode, timeToFirstResponse.toMillis(), rssKilobytes / 1024, databaseOpened);
+    }
+}
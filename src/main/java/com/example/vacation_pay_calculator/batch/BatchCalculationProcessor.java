@@ -0,0 +1,352 @@
+package com.example.vacation_pay_calculator.batch;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Потоковый пакетный расчёт: запросы читаются из входного потока по одному,
+ * считаются параллельно в {@link BatchExecutor} и записываются в выходной поток в исходном порядке.
+ * Ошибка в отдельном элементе не прерывает обработку пакета: ошибки входных данных и сбои расчёта
+ * (например, недоступная история начислений) записываются результатом элемента.
+ */
+@Component
+public class BatchCalculationProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchCalculationProcessor.class);
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final VacationPayCalculatorService vacationPayCalculatorService;
+    private final BatchExecutor batchExecutor;
+
+    public BatchCalculationProcessor(ObjectMapper objectMapper,
+                                     Validator validator,
+                                     VacationPayCalculatorService vacationPayCalculatorService,
+                                     BatchExecutor batchExecutor) {
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CalculateVacationPayRequest.class);
+        this.validator = validator;
+        this.vacationPayCalculatorService = vacationPayCalculatorService;
+        this.batchExecutor = batchExecutor;
+    }
+
+    public void process(InputStream input, OutputStream output, BatchFormat format) throws IOException {
+        if (format == BatchFormat.BINARY) {
+            processBinary(input, output);
+            return;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+
+            if (format == BatchFormat.NDJSON) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            BatchItemSource source = new BatchItemSource(parser, format);
+            try {
+                batchExecutor.execute(source, this::calculate, result -> write(generator, format, result));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+
+            if (source.malformed != null) {
+                // Синтаксическая ошибка: дальнейший разбор невозможен, сообщаем о ней последним элементом
+                write(generator, format, BatchItemResult.error(source.index, "Malformed input", source.malformed.getOriginalMessage()));
+            }
+
+            if (format == BatchFormat.JSON_ARRAY) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Двоичный пакет: записи запросов читаются из буферизованного потока без промежуточного дерева JSON,
+     * результаты пишутся записями {@link BinaryWireFormat} в порядке запросов
+     */
+    private void processBinary(InputStream input, OutputStream output) throws IOException {
+        BinaryItemSource source = new BinaryItemSource(new BufferedInputStream(input));
+        try (OutputStream out = new BufferedOutputStream(output)) {
+            try {
+                batchExecutor.execute(source, item -> calculate(item.index, item.request), result -> writeBinary(out, result));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+
+            if (source.malformed != null) {
+                writeBinary(out, BatchItemResult.error(source.index, "Malformed input", source.malformed.getMessage()));
+            }
+        }
+    }
+
+    private BatchItemResult calculate(BatchItem item) {
+        CalculateVacationPayRequest request;
+        try {
+            request = requestReader.readValue(item.node);
+        } catch (IOException ex) {
+            String message = ex instanceof JsonProcessingException
+                    ? ((JsonProcessingException) ex).getOriginalMessage()
+                    : ex.getMessage();
+            return BatchItemResult.error(item.index, "Invalid input", message);
+        }
+
+        return calculate(item.index, request);
+    }
+
+    private BatchItemResult calculate(long index, CalculateVacationPayRequest request) {
+        Set<ConstraintViolation<CalculateVacationPayRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> details = new LinkedHashMap<>();
+            for (ConstraintViolation<CalculateVacationPayRequest> violation : violations) {
+                details.put(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return BatchItemResult.validationError(index, details);
+        }
+
+        try {
+            return BatchItemResult.success(index, vacationPayCalculatorService.calculate(request).getVacationPay());
+        } catch (IllegalArgumentException ex) {
+            return BatchItemResult.error(index, "Invalid input", ex.getMessage());
+        } catch (RuntimeException ex) {
+            // Как в GlobalExceptionHandler: обёрнутый IllegalArgumentException — ошибка входных данных
+            if (ex.getCause() instanceof IllegalArgumentException) {
+                return BatchItemResult.error(index, "Invalid input", ex.getCause().getMessage());
+            }
+
+            log.error("Batch item {} failed", index, ex);
+            return BatchItemResult.internalError(index);
+        }
+    }
+
+    private static void writeBinary(OutputStream out, BatchItemResult result) {
+        try {
+            if (result.getError() == null) {
+                BinaryWireFormat.writeSuccess(result.getVacationPay(), out);
+            } else if (result.getDetails() != null) {
+                BinaryWireFormat.writeError(BinaryWireFormat.STATUS_VALIDATION_FAILED, result.getDetails(), out);
+            } else if (result.getStatus() == HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                BinaryWireFormat.writeError(BinaryWireFormat.STATUS_INTERNAL_ERROR, Map.of(), out);
+            } else {
+                int status = "Malformed input".equals(result.getError())
+                        ? BinaryWireFormat.STATUS_MALFORMED_INPUT
+                        : BinaryWireFormat.STATUS_INVALID_INPUT;
+                BinaryWireFormat.writeError(status, Map.of("message", String.valueOf(result.getMessage())), out);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void write(JsonGenerator generator, BatchFormat format, BatchItemResult result) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("index", result.getIndex());
+            if (result.getError() == null) {
+                generator.writeNumberField("vacationPay", result.getVacationPay());
+            } else {
+                generator.writeNumberField("status", result.getStatus());
+                generator.writeStringField("error", result.getError());
+                if (result.getMessage() != null) {
+                    generator.writeStringField("message", result.getMessage());
+                }
+                if (result.getDetails() != null) {
+                    generator.writeObjectFieldStart("details");
+                    for (Map.Entry<String, String> detail : result.getDetails().entrySet()) {
+                        generator.writeStringField(detail.getKey(), detail.getValue());
+                    }
+                    generator.writeEndObject();
+                }
+            }
+            generator.writeEndObject();
+
+            if (format == BatchFormat.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            if ((result.getIndex() + 1) % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class BatchItem {
+
+        private final long index;
+        private final JsonNode node;
+
+        private BatchItem(long index, JsonNode node) {
+            this.index = index;
+            this.node = node;
+        }
+    }
+
+    private static final class BinaryItem {
+
+        private final long index;
+        private final CalculateVacationPayRequest request;
+
+        private BinaryItem(long index, CalculateVacationPayRequest request) {
+            this.index = index;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Ленивый источник записей двоичного пакета: очередная запись читается только при обращении к {@link #hasNext()}
+     */
+    private static final class BinaryItemSource implements Iterator<BinaryItem> {
+
+        private final InputStream input;
+        private boolean finished;
+        private long index;
+        private BinaryItem pending;
+        private EOFException malformed;
+
+        private BinaryItemSource(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending != null) {
+                return true;
+            }
+            if (finished) {
+                return false;
+            }
+
+            try {
+                CalculateVacationPayRequest request = BinaryWireFormat.readRequest(input);
+                if (request == null) {
+                    finished = true;
+                    return false;
+                }
+
+                pending = new BinaryItem(index, request);
+                index++;
+                return true;
+            } catch (EOFException ex) {
+                malformed = ex;
+                finished = true;
+                return false;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public BinaryItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            BinaryItem item = pending;
+            pending = null;
+            return item;
+        }
+    }
+
+    /**
+     * Ленивый источник элементов пакета поверх потокового парсера: очередной элемент
+     * разбирается только при обращении к {@link #hasNext()}
+     */
+    private static final class BatchItemSource implements Iterator<BatchItem> {
+
+        private final JsonParser parser;
+        private final BatchFormat format;
+        private boolean started;
+        private boolean finished;
+        private long index;
+        private BatchItem pending;
+        private JsonParseException malformed;
+
+        private BatchItemSource(JsonParser parser, BatchFormat format) {
+            this.parser = parser;
+            this.format = format;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending != null) {
+                return true;
+            }
+            if (finished) {
+                return false;
+            }
+
+            try {
+                JsonToken token = parser.nextToken();
+                if (!started) {
+                    started = true;
+                    if (format == BatchFormat.JSON_ARRAY && token != null) {
+                        if (token != JsonToken.START_ARRAY) {
+                            throw new JsonParseException(parser, "Expected a JSON array of requests");
+                        }
+                        token = parser.nextToken();
+                    }
+                }
+
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    finished = true;
+                    return false;
+                }
+
+                pending = new BatchItem(index, parser.readValueAsTree());
+                index++;
+                return true;
+            } catch (JsonParseException ex) {
+                malformed = ex;
+                finished = true;
+                return false;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public BatchItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            BatchItem item = pending;
+            pending = null;
+            return item;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.vacation_pay_calculator.batch;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Параллельное выполнение пакета: элементы источника делятся на порции по {@code chunkSize},
+ * порции считаются в ограниченном пуле, результаты передаются получателю в порядке входа
+ * в вызывающем потоке. Одновременно в работе не больше {@code maxInFlightChunks} порций:
+ * пока самая старая из них не завершится, новые элементы из источника не читаются.
+ */
+@Component
+public class BatchExecutor implements DisposableBean {
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+
+    public BatchExecutor(@Value("${vacation.batch.parallelism:0}") int parallelism,
+                         @Value("${vacation.batch.chunk-size:512}") int chunkSize,
+                         @Value("${vacation.batch.max-in-flight-chunks:0}") int maxInFlightChunks) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("vacation.batch.chunk-size must be at least 1");
+        }
+
+        this.pool = new ForkJoinPool(threads);
+        this.chunkSize = chunkSize;
+        this.maxInFlightChunks = maxInFlightChunks > 0 ? maxInFlightChunks : threads * 2;
+    }
+
+    public <T, R> void execute(Iterator<? extends T> source,
+                               Function<? super T, ? extends R> task,
+                               Consumer<? super R> sink) {
+        Deque<Future<List<R>>> inFlight = new ArrayDeque<>();
+        try {
+            while (source.hasNext()) {
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+
+                if (inFlight.isEmpty() && !source.hasNext()) {
+                    // Пакет уместился в одну порцию — пул не нужен
+                    emit(apply(chunk, task), sink);
+                    return;
+                }
+
+                inFlight.addLast(CompletableFuture.supplyAsync(() -> apply(chunk, task), pool));
+
+                if (inFlight.size() >= maxInFlightChunks) {
+                    emit(await(inFlight.removeFirst()), sink);
+                }
+                while (!inFlight.isEmpty() && inFlight.peekFirst().isDone()) {
+                    emit(await(inFlight.removeFirst()), sink);
+                }
+            }
+
+            while (!inFlight.isEmpty()) {
+                emit(await(inFlight.removeFirst()), sink);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getMaxInFlightChunks() {
+        return maxInFlightChunks;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static <T, R> List<R> apply(List<T> chunk, Function<? super T, ? extends R> task) {
+        List<R> results = new ArrayList<>(chunk.size());
+        for (T item : chunk) {
+            results.add(task.apply(item));
+        }
+        return results;
+    }
+
+    private static <R> void emit(List<R> results, Consumer<? super R> sink) {
+        for (R result : results) {
+            sink.accept(result);
+        }
+    }
+
+    private static <R> List<R> await(Future<List<R>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Batch execution was interrupted");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.vacation_pay_calculator.batch;
+
+/**
+ * Формат пакета запросов и ответов
+ */
+public enum BatchFormat {
+
+    /**
+     * Один JSON-массив объектов
+     */
+    JSON_ARRAY,
+
+    /**
+     * Поток JSON-объектов, по одному на строку (NDJSON)
+     */
+    NDJSON,
+
+    /**
+     * Записи {@link com.example.vacation_pay_calculator.wire.BinaryWireFormat} подряд;
+     * результаты идут в порядке запросов без номеров
+     */
+    BINARY
+}
@@ -0,0 +1,46 @@
+package com.example.vacation_pay_calculator.batch;
+
+import com.example.vacation_pay_calculator.controller.advice.ErrorType;
+import lombok.Value;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Результат расчёта одного элемента пакета: сумма отпускных либо описание ошибки
+ */
+@Value
+class BatchItemResult {
+
+    long index;
+    BigDecimal vacationPay;
+
+    /**
+     * HTTP-статус, который получил бы тот же запрос в {@code GET /calculate}
+     */
+    int status;
+    String error;
+    String message;
+    Map<String, String> details;
+
+    static BatchItemResult success(long index, BigDecimal vacationPay) {
+        return new BatchItemResult(index, vacationPay, HttpStatus.OK.value(), null, null, null);
+    }
+
+    static BatchItemResult error(long index, String error, String message) {
+        return new BatchItemResult(index, null, HttpStatus.BAD_REQUEST.value(), error, message, null);
+    }
+
+    static BatchItemResult validationError(long index, Map<String, String> details) {
+        return new BatchItemResult(index, null, HttpStatus.BAD_REQUEST.value(), "Validation failed", null, details);
+    }
+
+    /**
+     * Сбой не из-за входных данных; текст исключения наружу не отдаётся, как и в {@code GET /calculate}
+     */
+    static BatchItemResult internalError(long index) {
+        return new BatchItemResult(index, null, ErrorType.INTERNAL_ERROR.getStatus().value(),
+                ErrorType.INTERNAL_ERROR.getError(), null, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.vacation_pay_calculator.binding;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Быстрое связывание {@link CalculateVacationPayRequest} из параметров запроса через {@link CalculateRequestBinder}.
+ * Ошибки выбрасываются как {@link BindException}, поэтому их обрабатывает тот же
+ * {@link com.example.vacation_pay_calculator.controller.advice.GlobalExceptionHandler}.
+ */
+public class CalculateRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String OBJECT_NAME = "calculateVacationPayRequest";
+
+    private final CalculateRequestBinder binder;
+
+    public CalculateRequestArgumentResolver(CalculateRequestBinder binder) {
+        this.binder = binder;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == CalculateVacationPayRequest.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        CalculateVacationPayRequest request = binder.bind(name -> parameter(webRequest, name), fieldErrors);
+        binder.validate(request, fieldErrors);
+
+        if (!fieldErrors.isEmpty()) {
+            MapBindingResult bindingResult = new MapBindingResult(new HashMap<>(), OBJECT_NAME);
+            fieldErrors.forEach((field, message) -> bindingResult.addError(new FieldError(OBJECT_NAME, field, message)));
+            throw new BindException(bindingResult);
+        }
+
+        return request;
+    }
+
+    private static String parameter(NativeWebRequest webRequest, String name) {
+        String value = webRequest.getParameter(name);
+        if (value == null && CalculateRequestBinder.TENANT_PARAMETER.equals(name)) {
+            return webRequest.getHeader(CalculateRequestBinder.TENANT_HEADER);
+        }
+        return value;
+    }
+}
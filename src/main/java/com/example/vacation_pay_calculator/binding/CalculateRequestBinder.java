@@ -0,0 +1,200 @@
+package com.example.vacation_pay_calculator.binding;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.NumberUtils;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Разбор и проверка параметров {@code GET /calculate} без {@code DataBinder} и Bean Validation.
+ * <p>
+ * Правила те же, что заданы аннотациями {@link CalculateVacationPayRequest}: сообщения и границы
+ * читаются из аннотаций один раз при создании, имена полей в ошибках совпадают с Bean Validation
+ * ({@code datesValid}, {@code simpleValid}), поэтому клиенты получают те же тела ответов об ошибках.
+ * Сообщения об ошибках преобразования собираются так же, как у {@code DataBinder} при связывании через конструктор:
+ * {@link TypeMismatchException} с причиной от {@link NumberUtils} для чисел и от форматтера
+ * {@code @DateTimeFormat} для дат.
+ */
+public final class CalculateRequestBinder {
+
+    public static final String TENANT_PARAMETER = "tenant";
+
+    /**
+     * Заголовок с арендатором для клиентов, которые не передают его параметром {@value #TENANT_PARAMETER}
+     */
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private final String averageSalaryMessage;
+    private final long minVacationDays;
+    private final String vacationDaysMessage;
+    private final String datesMessage;
+    private final String simpleMessage;
+    private final TypeDescriptor startDateType;
+    private final TypeDescriptor endDateType;
+
+    public CalculateRequestBinder() {
+        try {
+            Class<CalculateVacationPayRequest> type = CalculateVacationPayRequest.class;
+            this.averageSalaryMessage = type.getDeclaredField("averageSalary").getAnnotation(Positive.class).message();
+            Min minDays = type.getDeclaredField("vacationDays").getAnnotation(Min.class);
+            this.minVacationDays = minDays.value();
+            this.vacationDaysMessage = minDays.message();
+            this.datesMessage = type.getDeclaredMethod("isDatesValid").getAnnotation(AssertTrue.class).message();
+            this.simpleMessage = type.getDeclaredMethod("isSimpleValid").getAnnotation(AssertTrue.class).message();
+            this.startDateType = new TypeDescriptor(type.getDeclaredField("startDate"));
+            this.endDateType = new TypeDescriptor(type.getDeclaredField("endDate"));
+        } catch (NoSuchFieldException | NoSuchMethodException ex) {
+            throw new IllegalStateException("CalculateVacationPayRequest constraints have changed", ex);
+        }
+    }
+
+    /**
+     * Преобразует параметры запроса; ошибки преобразования добавляются в fieldErrors,
+     * а поле с ошибкой остаётся {@code null}
+     *
+     * @param parameters значение параметра по имени; {@code null}, если параметр не передан
+     */
+    public CalculateVacationPayRequest bind(Function<String, String> parameters, Map<String, String> fieldErrors) {
+        return new CalculateVacationPayRequest(
+                parseDouble("averageSalary", parameters.apply("averageSalary"), fieldErrors),
+                parseInteger("vacationDays", parameters.apply("vacationDays"), fieldErrors),
+                parseDate("startDate", parameters.apply("startDate"), startDateType, fieldErrors),
+                parseDate("endDate", parameters.apply("endDate"), endDateType, fieldErrors),
+                parameters.apply("region"),
+                parameters.apply("paidDaysPolicy"),
+                parameters.apply("employeeId"),
+                parameters.apply(TENANT_PARAMETER));
+    }
+
+    /**
+     * Проверяет ограничения запроса и добавляет нарушения в fieldErrors.
+     * Как и {@code DataBinder} при ошибке преобразования, проверяет тогда только ограничения полей:
+     * проверки всего запроса ({@code datesValid}, {@code simpleValid}) выполняются, если все параметры преобразованы.
+     */
+    public void validate(CalculateVacationPayRequest request, Map<String, String> fieldErrors) {
+        boolean converted = fieldErrors.isEmpty();
+
+        Double averageSalary = request.getAverageSalary();
+        if (averageSalary != null && !(averageSalary > 0.0)) {
+            fieldErrors.put("averageSalary", averageSalaryMessage);
+        }
+
+        Integer vacationDays = request.getVacationDays();
+        if (vacationDays != null && vacationDays < minVacationDays) {
+            fieldErrors.put("vacationDays", vacationDaysMessage);
+        }
+
+        if (!converted) {
+            return;
+        }
+
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        if (start == null && end == null) {
+            if (vacationDays == null) {
+                fieldErrors.put("simpleValid", simpleMessage);
+            }
+        } else if (start == null || end == null || end.isBefore(start)) {
+            fieldErrors.put("datesValid", datesMessage);
+        }
+    }
+
+    private static Double parseDouble(String name, String value, Map<String, String> fieldErrors) {
+        if (isEmpty(value)) {
+            return null;
+        }
+
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return parseNumber(name, value, Double.class, fieldErrors);
+        }
+    }
+
+    private static Integer parseInteger(String name, String value, Map<String, String> fieldErrors) {
+        if (isEmpty(value)) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return parseNumber(name, value, Integer.class, fieldErrors);
+        }
+    }
+
+    /**
+     * Разбор, которым {@code DataBinder} преобразует строку в число: пробелы внутри строки отбрасываются,
+     * целые числа могут быть шестнадцатеричными. Вызывается, только если не удался быстрый разбор.
+     */
+    private static <T extends Number> T parseNumber(String name, String value, Class<T> type, Map<String, String> fieldErrors) {
+        try {
+            return NumberUtils.parseNumber(value, type);
+        } catch (NumberFormatException ex) {
+            fieldErrors.put(name, conversionFailure(value, type, ex));
+            return null;
+        }
+    }
+
+    /**
+     * {@code yyyy-MM-dd} разбирается вручную; остальные формы ISO-даты — через {@link DateTimeFormatter#ISO_DATE}
+     */
+    private static LocalDate parseDate(String name, String value, TypeDescriptor type, Map<String, String> fieldErrors) {
+        if (isEmpty(value)) {
+            return null;
+        }
+
+        String text = value.trim();
+        try {
+            if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                int year = digits(text, 0, 4);
+                int month = digits(text, 5, 7);
+                int day = digits(text, 8, 10);
+                if (year >= 0 && month >= 0 && day >= 0) {
+                    return LocalDate.of(year, month, day);
+                }
+            }
+            return LocalDate.parse(text, DateTimeFormatter.ISO_DATE);
+        } catch (RuntimeException ex) {
+            IllegalArgumentException parseFailure = new IllegalArgumentException("Parse attempt failed for value [" + value + "]", ex);
+            fieldErrors.put(name, conversionFailure(value, LocalDate.class,
+                    new ConversionFailedException(TypeDescriptor.valueOf(String.class), type, value, parseFailure)));
+            return null;
+        }
+    }
+
+    /**
+     * @return число из десятичных цифр text[from, to) либо -1, если встретился другой символ
+     */
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Текст ошибки {@code typeMismatch}, который {@code DataBinder} кладёт в поле при связывании через конструктор
+     */
+    private static String conversionFailure(String value, Class<?> type, Throwable cause) {
+        return new TypeMismatchException(value, type, cause).getMessage();
+    }
+}
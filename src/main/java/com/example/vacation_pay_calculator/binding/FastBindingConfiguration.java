@@ -0,0 +1,25 @@
+package com.example.vacation_pay_calculator.binding;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Режим {@code vacation.binding.mode=fast}: {@code GET /calculate} связывается {@link CalculateRequestArgumentResolver}
+ * вместо {@code @ModelAttribute} и Bean Validation. В режиме {@code standard} (по умолчанию) запрос
+ * связывается стандартным {@code ModelAttributeMethodProcessor}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "vacation.binding.mode", havingValue = "fast")
+public class FastBindingConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CalculateRequestArgumentResolver(new CalculateRequestBinder()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.vacation_pay_calculator.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Расчёт по файлу из командной строки (профиль {@code bulk}): читает {@code vacation.bulk.input},
+ * пишет {@code vacation.bulk.output} через {@link BulkFileProcessor} и завершает приложение.
+ * Код выхода 0 — файл обработан (ошибки отдельных строк — в колонке {@code error}), 1 — файл прочитать не удалось.
+ */
+@Component
+@ConditionalOnProperty("vacation.bulk.input")
+public class BulkCalculationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkCalculationRunner.class);
+
+    private final BulkFileProcessor processor;
+    private final ConfigurableApplicationContext context;
+    private final Path input;
+    private final Path output;
+
+    public BulkCalculationRunner(BulkFileProcessor processor,
+                                 ConfigurableApplicationContext context,
+                                 @Value("${vacation.bulk.input}") Path input,
+                                 @Value("${vacation.bulk.output:vacation-pay.csv}") Path output) {
+        this.processor = processor;
+        this.context = context;
+        this.input = input;
+        this.output = output;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        long started = System.nanoTime();
+        try {
+            BulkSummary summary = processor.process(input, output);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            log.info("Calculated {} rows ({} failed) from {} into {} in {} s, {} rows/s",
+                    summary.getRows(), summary.getFailedRows(), input, output,
+                    String.format("%.3f", seconds), String.format("%.0f", summary.getRows() / Math.max(seconds, 1e-9)));
+        } catch (IOException | RuntimeException ex) {
+            log.error("Bulk calculation of {} failed", input, ex);
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,546 @@
+package com.example.vacation_pay_calculator.bulk;
+
+import com.example.vacation_pay_calculator.batch.BatchExecutor;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Расчёт отпускных по CSV-файлу на локальном диске.
+ * <pre>
+ * id,averageSalary,vacationDays,startDate,endDate,region,paidDaysPolicy     — заголовок, пропускается
+ * 1001,40000,14,,,,
+ * 1002,52300.50,,2026-05-01,2026-05-14,ru,working-days
+ * </pre>
+ * Правила те же, что у {@code GET /calculate}: даты заданы — считаются оплачиваемые дни периода,
+ * иначе берётся {@code vacationDays}; средняя зарплата обязательна. Результат — CSV {@code id,vacationPay,error}:
+ * сумма либо текст ошибки строки; ошибка строки не прерывает расчёт. Дни считаются по календарям регионов
+ * без корпоративных дней арендаторов.
+ * <p>
+ * Файл отображается в память сегментами до 1 ГиБ, сегмент режется по границам строк на порции по {@code sliceBytes}.
+ * Порции считаются параллельно в {@link BatchExecutor}; поля разбираются прямо из отображённых байтов,
+ * без строк и объектов запроса на каждую строку. Результаты порций пишутся в выходной канал в порядке входа.
+ */
+@Component
+@ConditionalOnProperty("vacation.bulk.input")
+public class BulkFileProcessor {
+
+    static final int SEGMENT_BYTES = 1 << 30;
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    private static final int COLUMNS = 7;
+    private static final int MAX_DECIMAL_DIGITS = 15;
+    private static final byte[] OUTPUT_HEADER = "id,vacationPay,error\n".getBytes(StandardCharsets.US_ASCII);
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    private final PaidDaysPolicies paidDaysPolicies;
+    private final PayCalculationEngine payCalculationEngine;
+    private final ProductionCalendarRegistry calendarRegistry;
+    private final BatchExecutor batchExecutor;
+    private final int sliceBytes;
+
+    public BulkFileProcessor(PaidDaysPolicies paidDaysPolicies,
+                             PayCalculationEngine payCalculationEngine,
+                             ProductionCalendarRegistry calendarRegistry,
+                             BatchExecutor batchExecutor,
+                             @Value("${vacation.bulk.slice-size:262144}") int sliceBytes) {
+        if (sliceBytes < 1 || sliceBytes > SEGMENT_BYTES) {
+            throw new IllegalArgumentException("vacation.bulk.slice-size must be between 1 and " + SEGMENT_BYTES);
+        }
+
+        this.paidDaysPolicies = paidDaysPolicies;
+        this.payCalculationEngine = payCalculationEngine;
+        this.calendarRegistry = calendarRegistry;
+        this.batchExecutor = batchExecutor;
+        this.sliceBytes = sliceBytes;
+    }
+
+    public BulkSummary process(Path input, Path output) throws IOException {
+        Names regions = new Names(calendarRegistry.getRegions());
+        Names policies = new Names(paidDaysPolicies.getNames());
+        long[] totals = new long[2];
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ChannelWriter writer = new ChannelWriter(out);
+            writer.write(OUTPUT_HEADER, OUTPUT_HEADER.length);
+
+            batchExecutor.execute(new SliceSource(in, sliceBytes),
+                    slice -> calculate(slice, regions, policies),
+                    result -> {
+                        totals[0] += result.rows;
+                        totals[1] += result.failedRows;
+                        writer.write(result.output.bytes, result.output.size);
+                    });
+            writer.flush();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        return new BulkSummary(totals[0], totals[1]);
+    }
+
+    private SliceResult calculate(Slice slice, Names regions, Names policies) {
+        ByteBuffer buffer = slice.buffer;
+        OutputBuffer out = new OutputBuffer(slice.to - slice.from + 64);
+        int[] fields = new int[COLUMNS * 2];
+        long rows = 0;
+        long failedRows = 0;
+
+        int position = slice.from;
+        while (position < slice.to) {
+            int lineEnd = indexOf(buffer, (byte) '\n', position, slice.to);
+            int end = lineEnd;
+            if (end > position && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+
+            if (end > position) {
+                rows++;
+                int idEnd = indexOf(buffer, (byte) ',', position, end);
+                out.put(buffer, position, idEnd);
+                out.put((byte) ',');
+                try {
+                    split(buffer, position, end, fields);
+                    out.putKopecks(calculateRow(buffer, fields, regions, policies));
+                    out.put((byte) ',');
+                } catch (IllegalArgumentException ex) {
+                    failedRows++;
+                    out.put((byte) ',');
+                    out.putQuoted(ex.getMessage());
+                }
+                out.put((byte) '\n');
+            }
+            position = lineEnd + 1;
+        }
+
+        return new SliceResult(out, rows, failedRows);
+    }
+
+    /**
+     * Сумма отпускных в копейках по полям строки; ошибки данных — {@link IllegalArgumentException}
+     * с тем же текстом, что у {@code GET /calculate}
+     */
+    private long calculateRow(ByteBuffer buffer, int[] fields, Names regions, Names policies) {
+        if (isEmpty(fields, 1)) {
+            throw new InvalidInputException("The average salary should not be null");
+        }
+        double averageSalary = parseDecimal(buffer, fields[2], fields[3], "averageSalary");
+        if (averageSalary <= 0.0) {
+            throw new InvalidInputException("The average salary should be more than zero");
+        }
+
+        boolean hasStart = !isEmpty(fields, 3);
+        boolean hasEnd = !isEmpty(fields, 4);
+        long paidDays;
+        if (hasStart && hasEnd) {
+            LocalDate start = parseDate(buffer, fields[6], fields[7], "startDate");
+            LocalDate end = parseDate(buffer, fields[8], fields[9], "endDate");
+            if (end.isBefore(start)) {
+                throw new InvalidInputException("The end date must be later than or equal to the start date");
+            }
+
+            String region = isEmpty(fields, 5) ? null
+                    : regions.resolve(buffer, fields[10], fields[11], "Unknown calendar region: ");
+            String policyName = isEmpty(fields, 6) ? null
+                    : policies.resolve(buffer, fields[12], fields[13], "Unknown paid days policy: ");
+            PaidDaysPolicy policy = paidDaysPolicies.get(policyName);
+            paidDays = policy.paidDays(null, region, start, end);
+        } else if (hasStart || hasEnd) {
+            throw new InvalidInputException(
+                    "Both start date and end date must be provided, and end date must be later than or equal to start date");
+        } else {
+            if (isEmpty(fields, 2)) {
+                throw new InvalidInputException("Vacation days must be specified when start date and end date are not provided");
+            }
+            paidDays = parseInt(buffer, fields[4], fields[5], "vacationDays");
+            if (paidDays < 1) {
+                throw new InvalidInputException("The number of vacation days must be at least 1");
+            }
+        }
+
+        try {
+            return payCalculationEngine.vacationPayKopecks(averageSalary, paidDays);
+        } catch (ArithmeticException ex) {
+            throw new InvalidInputException("The vacation pay exceeds the supported range");
+        }
+    }
+
+    /**
+     * Границы полей строки: {@code fields[2i]} — начало, {@code fields[2i + 1]} — конец i-го поля;
+     * недостающие поля пустые
+     */
+    private static void split(ByteBuffer buffer, int from, int to, int[] fields) {
+        int column = 0;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || buffer.get(i) == ',') {
+                if (column == COLUMNS) {
+                    throw new InvalidInputException("Expected at most " + COLUMNS + " columns");
+                }
+                fields[column * 2] = start;
+                fields[column * 2 + 1] = i;
+                column++;
+                start = i + 1;
+            }
+        }
+        for (; column < COLUMNS; column++) {
+            fields[column * 2] = to;
+            fields[column * 2 + 1] = to;
+        }
+    }
+
+    private static boolean isEmpty(int[] fields, int column) {
+        return fields[column * 2] == fields[column * 2 + 1];
+    }
+
+    /**
+     * Десятичное число без экспоненты; до 15 значащих цифр, поэтому деление на степень десяти
+     * даёт тот же {@code double}, что {@link Double#parseDouble(String)}
+     */
+    private static double parseDecimal(ByteBuffer buffer, int from, int to, String field) {
+        boolean negative = buffer.get(from) == '-';
+        int position = negative ? from + 1 : from;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < to; position++) {
+            byte b = buffer.get(position);
+            if (b == '.' && scale < 0) {
+                scale = 0;
+            } else if (b >= '0' && b <= '9' && digits < MAX_DECIMAL_DIGITS) {
+                unscaled = unscaled * 10 + (b - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else {
+                throw invalidValue(buffer, from, to, field);
+            }
+        }
+        if (digits == 0) {
+            throw invalidValue(buffer, from, to, field);
+        }
+
+        double value = unscaled / POWERS_OF_TEN[Math.max(scale, 0)];
+        return negative ? -value : value;
+    }
+
+    private static int parseInt(ByteBuffer buffer, int from, int to, String field) {
+        boolean negative = buffer.get(from) == '-';
+        int position = negative ? from + 1 : from;
+        if (position == to || to - position > 9) {
+            throw invalidValue(buffer, from, to, field);
+        }
+
+        int value = 0;
+        for (; position < to; position++) {
+            byte b = buffer.get(position);
+            if (b < '0' || b > '9') {
+                throw invalidValue(buffer, from, to, field);
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Дата {@code yyyy-MM-dd}; несуществующая дата — та же ошибка поля, что и неверный формат
+     */
+    private static LocalDate parseDate(ByteBuffer buffer, int from, int to, String field) {
+        if (to - from != 10 || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-') {
+            throw invalidValue(buffer, from, to, field);
+        }
+
+        try {
+            return LocalDate.of(parseInt(buffer, from, from + 4, field),
+                    parseInt(buffer, from + 5, from + 7, field),
+                    parseInt(buffer, from + 8, from + 10, field));
+        } catch (DateTimeException ex) {
+            throw invalidValue(buffer, from, to, field);
+        }
+    }
+
+    private static InvalidInputException invalidValue(ByteBuffer buffer, int from, int to, String field) {
+        return new InvalidInputException("Invalid " + field + " '" + text(buffer, from, to) + "'");
+    }
+
+    private static String text(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Известные имена (регионы, правила) для сравнения с байтами поля без создания строки
+     */
+    private static final class Names {
+
+        private final String[] names;
+        private final byte[][] encoded;
+
+        private Names(Collection<String> names) {
+            this.names = names.toArray(new String[0]);
+            this.encoded = new byte[this.names.length][];
+            for (int i = 0; i < this.names.length; i++) {
+                encoded[i] = this.names[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        private String resolve(ByteBuffer buffer, int from, int to, String unknownMessage) {
+            for (int i = 0; i < encoded.length; i++) {
+                if (matches(encoded[i], buffer, from, to)) {
+                    return names[i];
+                }
+            }
+            throw new InvalidInputException(unknownMessage + text(buffer, from, to));
+        }
+
+        private static boolean matches(byte[] name, ByteBuffer buffer, int from, int to) {
+            if (name.length != to - from) {
+                return false;
+            }
+            for (int i = 0; i < name.length; i++) {
+                if (name[i] != buffer.get(from + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Порция строк {@code [from, to)} отображённого сегмента; читается только абсолютными методами,
+     * поэтому один сегмент разделяют несколько потоков
+     */
+    private static final class Slice {
+
+        private final ByteBuffer buffer;
+        private final int from;
+        private final int to;
+
+        private Slice(ByteBuffer buffer, int from, int to) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static final class SliceResult {
+
+        private final OutputBuffer output;
+        private final long rows;
+        private final long failedRows;
+
+        private SliceResult(OutputBuffer output, long rows, long failedRows) {
+            this.output = output;
+            this.rows = rows;
+            this.failedRows = failedRows;
+        }
+    }
+
+    /**
+     * Порции файла по границам строк. Первая строка файла — заголовок — пропускается.
+     */
+    private static final class SliceSource implements Iterator<Slice> {
+
+        private final FileChannel channel;
+        private final long fileSize;
+        private final int sliceBytes;
+
+        private MappedByteBuffer segment;
+        private long segmentStart;
+        private int position;
+
+        private SliceSource(FileChannel channel, int sliceBytes) {
+            this.sliceBytes = sliceBytes;
+            this.channel = channel;
+            try {
+                this.fileSize = channel.size();
+                mapSegment(0);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            position = Math.min(indexOf(segment, (byte) '\n', 0, segment.limit()) + 1, segment.limit());
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < segment.limit() || segmentStart + segment.limit() < fileSize;
+        }
+
+        @Override
+        public Slice next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (position == segment.limit()) {
+                try {
+                    mapSegment(segmentStart + segment.limit());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                position = 0;
+            }
+
+            int from = position;
+            int to = from + Math.min(sliceBytes, segment.limit() - from);
+            if (to < segment.limit()) {
+                to = Math.min(indexOf(segment, (byte) '\n', to - 1, segment.limit()) + 1, segment.limit());
+            }
+            position = to;
+            return new Slice(segment, from, to);
+        }
+
+        /**
+         * Отображает сегмент, начиная с {@code start}, и обрезает его по последнему переводу строки
+         */
+        private void mapSegment(long start) throws IOException {
+            long length = Math.min(SEGMENT_BYTES, fileSize - start);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            if (start + length < fileSize) {
+                int lastLineEnd = (int) length - 1;
+                while (lastLineEnd >= 0 && mapped.get(lastLineEnd) != '\n') {
+                    lastLineEnd--;
+                }
+                if (lastLineEnd < 0) {
+                    throw new IllegalStateException("Line at offset " + start + " is longer than " + SEGMENT_BYTES + " bytes");
+                }
+                mapped.limit(lastLineEnd + 1);
+            }
+            this.segment = mapped;
+            this.segmentStart = start;
+        }
+    }
+
+    /**
+     * Результат порции: растущий массив байтов CSV
+     */
+    private static final class OutputBuffer {
+
+        private byte[] bytes;
+        private int size;
+
+        private OutputBuffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void put(byte b) {
+            ensureCapacity(1);
+            bytes[size++] = b;
+        }
+
+        private void put(ByteBuffer source, int from, int to) {
+            ensureCapacity(to - from);
+            for (int i = from; i < to; i++) {
+                bytes[size++] = source.get(i);
+            }
+        }
+
+        /**
+         * Сумма в рублях с двумя знаками после точки
+         */
+        private void putKopecks(long kopecks) {
+            ensureCapacity(24);
+            long rubles = kopecks / 100;
+            int cents = (int) (kopecks % 100);
+            int start = size;
+            do {
+                bytes[size++] = (byte) ('0' + rubles % 10);
+                rubles /= 10;
+            } while (rubles > 0);
+            for (int i = start, j = size - 1; i < j; i++, j--) {
+                byte swap = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = swap;
+            }
+            bytes[size++] = '.';
+            bytes[size++] = (byte) ('0' + cents / 10);
+            bytes[size++] = (byte) ('0' + cents % 10);
+        }
+
+        private void putQuoted(String text) {
+            byte[] encoded = String.valueOf(text).replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(encoded.length + 2);
+            bytes[size++] = '"';
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+            bytes[size++] = '"';
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Буферизованная запись в канал; вызывается только из потока, который выдаёт результаты
+     */
+    private static final class ChannelWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+
+        private ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void write(byte[] bytes, int length) {
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int count = Math.min(buffer.remaining(), length - offset);
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+        }
+
+        private void flush() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.vacation_pay_calculator.bulk;
+
+import lombok.Value;
+
+/**
+ * Итог расчёта по файлу
+ */
+@Value
+public class BulkSummary {
+
+    long rows;
+    long failedRows;
+}
@@ -0,0 +1,174 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Кэш результатов расчёта перед {@link VacationPayCalculatorService}.
+ * Размер ограничен (вытеснение W-TinyLFU), время жизни записей — опционально.
+ * При изменении производственного календаря удаляются записи, период которых затронут изменением,
+ * при изменении корпоративного календаря — записи арендатора ({@link #invalidateTenant(String)}).
+ * <p>
+ * Расчёт, начатый до изменения, ещё не лежит в кэше, когда записи удаляются, и попадает туда позже
+ * с результатом по старому календарю. Поэтому каждая запись помечена поколением — числом изменений
+ * календаря, которые видел кэш на момент начала расчёта. Изменение увеличивает поколение и переносит
+ * в него уцелевшие записи; запись прежнего поколения при чтении считается устаревшей и пересчитывается.
+ * <p>
+ * Загрузка записи выполняется один раз, остальные вызовы по тому же ключу ждут её, поэтому кэш сам объединяет
+ * одинаковые расчёты; {@link SingleFlightVacationPayCalculatorService} узнаёт об исходе каждого вызова
+ * через {@link #calculate(CalculationKey, CalculateVacationPayRequest, Runnable, Runnable)}.
+ */
+public class CachingVacationPayCalculatorService implements VacationPayCalculatorService {
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    private final VacationPayCalculatorService delegate;
+    private final String defaultRegion;
+    private final String defaultPaidDaysPolicy;
+    private final Cache<CalculationKey, CachedResult> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingVacationPayCalculatorService(VacationPayCalculatorService delegate,
+                                               ProductionCalendarRegistry calendarRegistry,
+                                               String defaultPaidDaysPolicy,
+                                               long maximumSize,
+                                               Duration timeToLive) {
+        this.delegate = delegate;
+        this.defaultRegion = calendarRegistry.getDefaultRegion();
+        this.defaultPaidDaysPolicy = defaultPaidDaysPolicy;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats();
+        if (timeToLive != null && !timeToLive.isZero()) {
+            builder.expireAfterWrite(timeToLive);
+        }
+        this.cache = builder.build();
+
+        calendarRegistry.addChangeListener(change -> invalidate(key -> key.isAffectedBy(change)));
+    }
+
+    @Override
+    public CalculateVacationPayResponse calculate(CalculateVacationPayRequest request) {
+        CalculationKey key = CalculationKey.of(request, defaultRegion, defaultPaidDaysPolicy);
+        if (key == null) {
+            return delegate.calculate(request);
+        }
+        return calculate(key, request, NOTHING, NOTHING);
+    }
+
+    /**
+     * Расчёт по ключу с отчётом об исходе вызова. Попадание в запись, готовую до вызова, не сообщается.
+     *
+     * @param onLoad вызывается, если расчёт выполнил этот вызов
+     * @param onWait вызывается, если записи не было и вызов получил результат расчёта, начатого другим потоком
+     */
+    CalculateVacationPayResponse calculate(CalculationKey key, CalculateVacationPayRequest request,
+                                           Runnable onLoad, Runnable onWait) {
+        long arrived = System.nanoTime();
+        long expected = generation.get();
+        boolean[] loaded = new boolean[1];
+        CachedResult result = cache.get(key, k -> load(request, expected, loaded));
+        if (result.getGeneration() != expected) {
+            // Календарь изменился во время расчёта этой записи либо после того, как было прочитано поколение
+            long current = generation.get();
+            result = cache.asMap().compute(key, (k, existing) -> existing != null && existing.getGeneration() == current
+                    ? existing
+                    : load(request, current, loaded));
+        }
+
+        if (loaded[0]) {
+            onLoad.run();
+        } else if (result.getLoadedNanos() - arrived >= 0) {
+            onWait.run();
+        }
+        return result.getResponse();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    Cache<CalculationKey, CachedResult> getCache() {
+        return cache;
+    }
+
+    /**
+     * Удаляет результаты арендатора, корпоративный календарь которого изменился
+     *
+     * @param tenant идентификатор арендатора; {@code null} — результаты всех арендаторов
+     */
+    public void invalidateTenant(String tenant) {
+        invalidate(key -> key.getTenant() != null && (tenant == null || tenant.equals(key.getTenant())));
+    }
+
+    private CachedResult load(CalculateVacationPayRequest request, long generation, boolean[] loaded) {
+        loaded[0] = true;
+        return new CachedResult(delegate.calculate(request), generation);
+    }
+
+    /**
+     * Поколение увеличивается до обхода: запись, вставленная после того, как обход её миновал,
+     * остаётся в прежнем поколении и при чтении пересчитывается
+     */
+    private void invalidate(Predicate<CalculationKey> affected) {
+        long current = generation.incrementAndGet();
+        Iterator<Map.Entry<CalculationKey, CachedResult>> entries = cache.asMap().entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<CalculationKey, CachedResult> entry = entries.next();
+            if (affected.test(entry.getKey())) {
+                entries.remove();
+            } else {
+                entry.getValue().generation = current;
+            }
+        }
+    }
+
+    /**
+     * Результат расчёта и поколение календаря, для которого он действителен
+     */
+    static final class CachedResult {
+
+        private final CalculateVacationPayResponse response;
+        private final long loadedNanos;
+        private volatile long generation;
+
+        CachedResult(CalculateVacationPayResponse response, long generation) {
+            this.response = response;
+            this.loadedNanos = System.nanoTime();
+            this.generation = generation;
+        }
+
+        CalculateVacationPayResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * {@link System#nanoTime()} на момент завершения расчёта: запись, готовая позже прихода вызова,
+         * загружалась, пока вызов её ждал
+         */
+        long getLoadedNanos() {
+            return loadedNanos;
+        }
+
+        long getGeneration() {
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.VacationPayCalculatorServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "vacation.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CalculationCacheConfiguration {
+
+    @Bean
+    public CachingVacationPayCalculatorService cachingVacationPayCalculatorService(
+            VacationPayCalculatorServiceImpl vacationPayCalculatorService,
+            ProductionCalendarRegistry calendarRegistry,
+            TenantCalendarRegistry tenantCalendarRegistry,
+            PaidDaysPolicies paidDaysPolicies,
+            @Value("${vacation.cache.maximum-size:10000}") long maximumSize,
+            @Value("${vacation.cache.time-to-live:0s}") Duration timeToLive,
+            MeterRegistry meterRegistry) {
+        CachingVacationPayCalculatorService cachingService = new CachingVacationPayCalculatorService(vacationPayCalculatorService,
+                calendarRegistry, paidDaysPolicies.getDefaultName(), maximumSize, timeToLive);
+        tenantCalendarRegistry.addChangeListener(cachingService::invalidateTenant);
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingService.getCache(), "calculation");
+        return cachingService;
+    }
+
+    @Bean
+    public CalculationCacheEndpoint calculationCacheEndpoint(CachingVacationPayCalculatorService cachingVacationPayCalculatorService) {
+        return new CalculationCacheEndpoint(cachingVacationPayCalculatorService);
+    }
+}
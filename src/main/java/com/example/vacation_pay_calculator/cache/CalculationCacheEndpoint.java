@@ -0,0 +1,34 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Статистика кэша расчётов: {@code GET /actuator/calculationcache}
+ */
+@Endpoint(id = "calculationcache")
+public class CalculationCacheEndpoint {
+
+    private final CachingVacationPayCalculatorService cachingService;
+
+    public CalculationCacheEndpoint(CachingVacationPayCalculatorService cachingService) {
+        this.cachingService = cachingService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = cachingService.getStats();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", cachingService.getSize());
+        body.put("hitCount", stats.hitCount());
+        body.put("missCount", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictionCount", stats.evictionCount());
+        return body;
+    }
+}
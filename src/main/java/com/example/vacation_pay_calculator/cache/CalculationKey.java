@@ -0,0 +1,52 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.CalendarChange;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import lombok.Value;
+
+/**
+ * Нормализованный запрос расчёта: поля, не влияющие на результат, отброшены.
+ * В режиме «по датам» не учитывается количество дней, в режиме «по дням» — даты, регион, правило подсчёта дней и арендатор.
+ * Незаданные регион и правило подсчёта дней заменяются значениями по умолчанию, поэтому запрос без них
+ * и запрос с ними же, заданными явно, дают один ключ.
+ */
+@Value
+public class CalculationKey {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    long averageSalaryBits;
+    int vacationDays;
+    long startEpochDay;
+    long endEpochDay;
+    String region;
+    String paidDaysPolicy;
+    String tenant;
+
+    /**
+     * @return ключ либо {@code null}, если запрос неполон и результат кэшировать нельзя
+     */
+    public static CalculationKey of(CalculateVacationPayRequest request, String defaultRegion, String defaultPaidDaysPolicy) {
+        if (request.getAverageSalary() == null) {
+            return null;
+        }
+
+        long averageSalaryBits = Double.doubleToLongBits(request.getAverageSalary());
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+            String region = request.getRegion() != null ? request.getRegion() : defaultRegion;
+            String paidDaysPolicy = request.getPaidDaysPolicy() != null ? request.getPaidDaysPolicy() : defaultPaidDaysPolicy;
+            return new CalculationKey(averageSalaryBits, 0,
+                    request.getStartDate().toEpochDay(), request.getEndDate().toEpochDay(), region, paidDaysPolicy, request.getTenant());
+        }
+
+        if (request.getVacationDays() == null) {
+            return null;
+        }
+
+        return new CalculationKey(averageSalaryBits, request.getVacationDays(), NO_DATE, NO_DATE, null, null, null);
+    }
+
+    public boolean isAffectedBy(CalendarChange change) {
+        return startEpochDay != NO_DATE && change.affects(region, startEpochDay, endEpochDay);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.VacationPayCalculatorServiceImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Объединение одновременных одинаковых расчётов — основной вход в расчёт.
+ * С кэшем результатов оно стоит перед кэшем и объединяет только запросы, которые кэш не хранит;
+ * без кэша ({@code vacation.cache.enabled=false}) — все запросы перед {@link VacationPayCalculatorServiceImpl}.
+ */
+@Configuration
+public class SingleFlightConfiguration {
+
+    @Bean
+    @Primary
+    public SingleFlightVacationPayCalculatorService singleFlightVacationPayCalculatorService(
+            VacationPayCalculatorServiceImpl vacationPayCalculatorService,
+            ObjectProvider<CachingVacationPayCalculatorService> cachingVacationPayCalculatorService,
+            ProductionCalendarRegistry calendarRegistry,
+            PaidDaysPolicies paidDaysPolicies,
+            CalculationMetrics metrics) {
+        CachingVacationPayCalculatorService cachingService = cachingVacationPayCalculatorService.getIfAvailable();
+        if (cachingService != null) {
+            return new SingleFlightVacationPayCalculatorService(cachingService, calendarRegistry,
+                    paidDaysPolicies.getDefaultName(), metrics);
+        }
+        return new SingleFlightVacationPayCalculatorService(vacationPayCalculatorService, calendarRegistry,
+                paidDaysPolicies.getDefaultName(), metrics);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Объединение одновременных одинаковых расчётов: пока расчёт по ключу выполняется, такие же запросы
+ * не считают заново, а ждут его результат или исключение. После завершения ключ удаляется,
+ * поэтому следующий запрос считается снова.
+ * <p>
+ * Ключ — {@link CalculationKey}; запросы без него (средний заработок по {@code employeeId}) объединяются
+ * по полному совпадению запроса. Перед {@link CachingVacationPayCalculatorService} запросы с ключом
+ * передаются кэшу без объединения: загрузка записи кэша по ключу и так выполняется один раз, а ожидающие
+ * получают её результат. Кэш сообщает, загрузил ли запись этот вызов или дождался чужой загрузки, и такие вызовы
+ * считаются в тех же {@code vacation.singleflight.calls}. Это внешний слой расчёта, поэтому здесь же считаются запросы по режимам
+ * ({@link CalculationMetrics#recordRequest}). Выполняющиеся расчёты лежат в {@link ConcurrentHashMap}: запись и удаление
+ * блокируют только корзину ключа, поэтому разные ключи друг другу не мешают.
+ */
+public class SingleFlightVacationPayCalculatorService implements VacationPayCalculatorService {
+
+    private final VacationPayCalculatorService delegate;
+    private final String defaultRegion;
+    private final String defaultPaidDaysPolicy;
+    private final CalculationMetrics metrics;
+    private final CachingVacationPayCalculatorService cache;
+    private final Runnable recordExecuted;
+    private final Runnable recordCoalesced;
+    private final ConcurrentMap<Object, CompletableFuture<CalculateVacationPayResponse>> inFlight;
+
+    /**
+     * Объединение всех запросов перед делегатом без кэша
+     */
+    public SingleFlightVacationPayCalculatorService(VacationPayCalculatorService delegate,
+                                                    ProductionCalendarRegistry calendarRegistry,
+                                                    String defaultPaidDaysPolicy,
+                                                    CalculationMetrics metrics) {
+        this(delegate, null, calendarRegistry, defaultPaidDaysPolicy, metrics);
+    }
+
+    /**
+     * Объединение запросов без ключа кэша; запросы с ключом объединяет загрузка записи в {@code cache}
+     */
+    public SingleFlightVacationPayCalculatorService(CachingVacationPayCalculatorService cache,
+                                                    ProductionCalendarRegistry calendarRegistry,
+                                                    String defaultPaidDaysPolicy,
+                                                    CalculationMetrics metrics) {
+        this(cache, cache, calendarRegistry, defaultPaidDaysPolicy, metrics);
+    }
+
+    private SingleFlightVacationPayCalculatorService(VacationPayCalculatorService delegate,
+                                                     CachingVacationPayCalculatorService cache,
+                                                     ProductionCalendarRegistry calendarRegistry,
+                                                     String defaultPaidDaysPolicy,
+                                                     CalculationMetrics metrics) {
+        this.delegate = delegate;
+        this.defaultRegion = calendarRegistry.getDefaultRegion();
+        this.defaultPaidDaysPolicy = defaultPaidDaysPolicy;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.recordExecuted = metrics::recordSingleFlightExecuted;
+        this.recordCoalesced = metrics::recordSingleFlightCoalesced;
+        this.inFlight = new ConcurrentHashMap<>(64, 0.75f, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public CalculateVacationPayResponse calculate(CalculateVacationPayRequest request) {
+        metrics.recordRequest(request);
+
+        CalculationKey calculationKey = CalculationKey.of(request, defaultRegion, defaultPaidDaysPolicy);
+        if (calculationKey != null && cache != null) {
+            return cache.calculate(calculationKey, request, recordExecuted, recordCoalesced);
+        }
+
+        Object key = calculationKey != null ? calculationKey : request;
+
+        CompletableFuture<CalculateVacationPayResponse> running = inFlight.get(key);
+        if (running == null) {
+            CompletableFuture<CalculateVacationPayResponse> own = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, own);
+            if (running == null) {
+                return execute(key, request, own);
+            }
+        }
+
+        metrics.recordSingleFlightCoalesced();
+        return await(running);
+    }
+
+    /**
+     * Количество расчётов, выполняющихся в данный момент
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private CalculateVacationPayResponse execute(Object key, CalculateVacationPayRequest request,
+                                                 CompletableFuture<CalculateVacationPayResponse> own) {
+        metrics.recordSingleFlightExecuted();
+        try {
+            CalculateVacationPayResponse response = delegate.calculate(request);
+            own.complete(response);
+            return response;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Ожидающий получает то же исключение, что и выполнивший расчёт, без обёртки {@link CompletionException}
+     */
+    private static CalculateVacationPayResponse await(CompletableFuture<CalculateVacationPayResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+}
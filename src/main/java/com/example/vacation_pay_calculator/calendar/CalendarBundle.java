@@ -0,0 +1,200 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Двоичный файл с набором производственных календарей всех регионов и его версией.
+ * <p>
+ * Формат (little-endian):
+ * <pre>
+ * int    magic 'VPCB'
+ * int    версия формата (2; файлы версии 1 без сокращённых дней тоже читаются)
+ * long   версия календарей
+ * int    количество регионов
+ * регион:
+ *   short  длина имени в байтах, UTF-8 имя
+ *   int    первый год, int количество лет
+ *   год:   6 × long праздники, 6 × long перенесённые рабочие дни, 6 × long сокращённые дни
+ * int    CRC32 всех предыдущих байтов
+ * </pre>
+ * Файл читается через отображение в память; битовые карты копируются в кучу, и отображение
+ * не удерживается после чтения, поэтому файл можно заменять, пока сервис работает.
+ * Тот же формат собирается при сборке из {@code calendars/*.cal} (задача Gradle {@code compileCalendars})
+ * и читается из classpath вместо разбора исходных файлов.
+ */
+public final class CalendarBundle {
+
+    static final int MAGIC = 0x42435056;
+    static final int FORMAT_VERSION = 2;
+    private static final int BITMAP_BYTES = DayBits.WORDS_PER_YEAR * Long.BYTES;
+
+    private final long version;
+    private final Map<String, ProductionCalendar> calendars;
+
+    public CalendarBundle(long version, Map<String, ProductionCalendar> calendars) {
+        this.version = version;
+        this.calendars = Map.copyOf(calendars);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Map<String, ProductionCalendar> getCalendars() {
+        return calendars;
+    }
+
+    public static CalendarBundle read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(file.toString(), mapped.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Читает набор целиком из потока, например из ресурса classpath внутри jar
+     *
+     * @param source имя источника для сообщений об ошибках
+     */
+    public static CalendarBundle read(String source, InputStream in) throws IOException {
+        return read(source, ByteBuffer.wrap(in.readAllBytes()).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * Записывает набор во временный файл рядом с целевым и атомарно переименовывает его,
+     * чтобы читатели никогда не видели файл записанным наполовину
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = encode();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private ByteBuffer encode() {
+        Map<String, byte[]> names = new TreeMap<>();
+        int size = 4 + 4 + 8 + 4 + 4;
+        for (Map.Entry<String, ProductionCalendar> entry : calendars.entrySet()) {
+            byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            names.put(entry.getKey(), name);
+            size += 2 + name.length + 4 + 4 + entry.getValue().getYears().size() * 3 * BITMAP_BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(version).putInt(names.size());
+        for (Map.Entry<String, byte[]> entry : names.entrySet()) {
+            List<YearCalendar> years = calendars.get(entry.getKey()).getYears();
+            buffer.putShort((short) entry.getValue().length).put(entry.getValue());
+            buffer.putInt(years.isEmpty() ? 0 : years.get(0).getYear()).putInt(years.size());
+            for (YearCalendar year : years) {
+                putWords(buffer, year.holidayBits());
+                putWords(buffer, year.transferredWorkingDayBits());
+                putWords(buffer, year.shortenedDayBits());
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.flip();
+    }
+
+    private static CalendarBundle read(String file, ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < 4) {
+                throw malformed(file, "file is too short");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().limit(buffer.limit() - 4));
+            if ((int) crc.getValue() != buffer.getInt(buffer.limit() - 4)) {
+                throw malformed(file, "checksum mismatch");
+            }
+
+            if (buffer.getInt() != MAGIC) {
+                throw malformed(file, "not a calendar bundle");
+            }
+            int formatVersion = buffer.getInt();
+            if (formatVersion != 1 && formatVersion != FORMAT_VERSION) {
+                throw malformed(file, "unsupported format version " + formatVersion);
+            }
+
+            int bitmapsPerYear = formatVersion == 1 ? 2 : 3;
+            long version = buffer.getLong();
+            int regionCount = buffer.getInt();
+            Map<String, ProductionCalendar> calendars = new HashMap<>();
+            for (int i = 0; i < regionCount; i++) {
+                byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(name);
+                String region = new String(name, StandardCharsets.UTF_8);
+
+                int firstYear = buffer.getInt();
+                int yearCount = buffer.getInt();
+                if (yearCount < 0 || yearCount > buffer.remaining() / (bitmapsPerYear * BITMAP_BYTES)) {
+                    throw malformed(file, "invalid year count " + yearCount + " for region " + region);
+                }
+                List<YearCalendar> years = new ArrayList<>(yearCount);
+                for (int y = 0; y < yearCount; y++) {
+                    long[] holidays = getWords(buffer);
+                    long[] transferredWorkingDays = getWords(buffer);
+                    long[] shortenedDays = bitmapsPerYear == 3 ? getWords(buffer) : DayBits.newYearBitmap();
+                    years.add(new YearCalendar(firstYear + y, holidays, transferredWorkingDays, shortenedDays));
+                }
+                calendars.put(region, new ProductionCalendar(region, years));
+            }
+
+            if (buffer.remaining() != 4) {
+                throw malformed(file, "unexpected trailing bytes");
+            }
+            return new CalendarBundle(version, calendars);
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalStateException("Malformed calendar bundle '" + file + "': " + ex, ex);
+        }
+    }
+
+    private static void putWords(ByteBuffer buffer, long[] words) {
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+
+    private static long[] getWords(ByteBuffer buffer) {
+        long[] words = DayBits.newYearBitmap();
+        buffer.asLongBuffer().get(words);
+        buffer.position(buffer.position() + words.length * Long.BYTES);
+        return words;
+    }
+
+    private static IllegalStateException malformed(String file, String reason) {
+        return new IllegalStateException("Malformed calendar bundle '" + file + "': " + reason);
+    }
+}
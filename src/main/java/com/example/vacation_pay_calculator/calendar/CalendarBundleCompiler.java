@@ -0,0 +1,39 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Сборка двоичного файла календарей из исходных файлов {@code <регион>.cal}:
+ * <pre>
+ * java -cp app.jar com.example.vacation_pay_calculator.calendar.CalendarBundleCompiler &lt;версия&gt; &lt;выходной файл&gt; &lt;файлы .cal...&gt;
+ * </pre>
+ */
+public final class CalendarBundleCompiler {
+
+    private CalendarBundleCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: CalendarBundleCompiler <version> <output file> <calendar source files...>");
+            System.exit(2);
+        }
+
+        Map<String, ProductionCalendar> calendars = new HashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            Path source = Path.of(args[i]);
+            String region = source.getFileName().toString().replaceFirst("\\.cal$", "");
+            try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                calendars.put(region, CalendarSourceParser.parse(region, reader));
+            }
+        }
+
+        new CalendarBundle(Long.parseLong(args[0]), calendars).write(Path.of(args[1]));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.TreeSet;
+
+/**
+ * Изменение календаря региона: затронутый период [fromEpochDay, toEpochDay]
+ */
+@Value
+public class CalendarChange {
+
+    String region;
+    long fromEpochDay;
+    long toEpochDay;
+
+    public static CalendarChange ofRegion(String region) {
+        return new CalendarChange(region, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Сравнивает календари региона по годам
+     *
+     * @return затронутые годы от первого до последнего изменённого либо {@code null}, если изменений нет
+     */
+    public static CalendarChange between(String region, ProductionCalendar before, ProductionCalendar after) {
+        if (before == null || after == null) {
+            return ofRegion(region);
+        }
+
+        TreeSet<Integer> years = new TreeSet<>();
+        before.getYears().forEach(year -> years.add(year.getYear()));
+        after.getYears().forEach(year -> years.add(year.getYear()));
+
+        Integer firstChanged = null;
+        Integer lastChanged = null;
+        for (Integer year : years) {
+            if (!before.getYear(year).hasSameDaysAs(after.getYear(year))) {
+                if (firstChanged == null) {
+                    firstChanged = year;
+                }
+                lastChanged = year;
+            }
+        }
+
+        if (firstChanged == null) {
+            return null;
+        }
+
+        return new CalendarChange(region,
+                LocalDate.of(firstChanged, 1, 1).toEpochDay(),
+                LocalDate.of(lastChanged, 12, 31).toEpochDay());
+    }
+
+    /**
+     * Пересекается ли период [startEpochDay, endEpochDay] с изменением
+     */
+    public boolean affects(String region, long startEpochDay, long endEpochDay) {
+        return this.region.equals(region) && startEpochDay <= toEpochDay && endEpochDay >= fromEpochDay;
+    }
+}
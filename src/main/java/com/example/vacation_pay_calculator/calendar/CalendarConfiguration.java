@@ -0,0 +1,135 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Загрузка производственных календарей: один файл {@code <регион>.cal} на регион.
+ * При сборке файлы из {@code calendars/} компилируются в {@value #PRECOMPILED_BUNDLE}, который читается без разбора;
+ * исходные файлы разбираются, только если задано {@code vacation.calendar.location} или сборка не выполнялась (запуск из IDE).
+ * Если задано {@code vacation.calendar.file}, календари берутся из двоичного файла и перезагружаются при его изменении.
+ * Корпоративные календари арендаторов накладываются на календари регионов в {@link TenantCalendarRegistry}.
+ */
+@Configuration
+public class CalendarConfiguration {
+
+    static final String PRECOMPILED_BUNDLE = "calendars/calendars.bin";
+    private static final String DEFAULT_LOCATION = "classpath*:calendars/*.cal";
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarConfiguration.class);
+
+    @Bean
+    public ProductionCalendarRegistry productionCalendarRegistry(
+            @Value("${vacation.calendar.location:}") String location,
+            @Value("${vacation.calendar.default-region:ru}") String defaultRegion) throws IOException {
+
+        long started = System.nanoTime();
+        Map<String, ProductionCalendar> calendars;
+        String source;
+        Resource precompiled = new ClassPathResource(PRECOMPILED_BUNDLE);
+        if (location.isEmpty() && precompiled.exists()) {
+            source = "classpath:" + PRECOMPILED_BUNDLE;
+            try (InputStream in = precompiled.getInputStream()) {
+                calendars = CalendarBundle.read(source, in).getCalendars();
+            }
+        } else {
+            source = location.isEmpty() ? DEFAULT_LOCATION : location;
+            calendars = parse(source);
+        }
+
+        ProductionCalendarRegistry registry = new ProductionCalendarRegistry(calendars, defaultRegion);
+        log.info("Loaded calendars {} from {} in {} us, ~{} bytes of heap",
+                new TreeSet<>(calendars.keySet()), source, (System.nanoTime() - started) / 1_000,
+                registry.getEstimatedHeapBytes());
+        return registry;
+    }
+
+    /**
+     * Корпоративные календари арендаторов читаются из {@code vacation.tenant.calendar-dir};
+     * если каталог не задан, арендаторы пользуются календарями регионов
+     */
+    @Bean
+    public TenantCalendarRegistry tenantCalendarRegistry(
+            ProductionCalendarRegistry registry,
+            @Value("${vacation.tenant.calendar-dir:}") String directory,
+            @Value("${vacation.tenant.cache.max-heap:64MB}") DataSize maximumHeap,
+            @Value("${vacation.tenant.cache.idle-timeout:30m}") Duration idleTimeout,
+            MeterRegistry meterRegistry) {
+        Function<String, ProductionCalendar> overlays = directory.isEmpty()
+                ? tenant -> null
+                : TenantCalendarRegistry.overlaysFrom(Path.of(directory));
+        TenantCalendarRegistry tenantRegistry =
+                new TenantCalendarRegistry(registry, overlays, maximumHeap.toBytes(), idleTimeout);
+        CaffeineCacheMetrics.monitor(meterRegistry, tenantRegistry.getCache(), "tenantCalendar");
+        return tenantRegistry;
+    }
+
+    /**
+     * Создаётся сразу и при {@code spring.main.lazy-initialization}: иначе изменения файлов терялись бы
+     */
+    @Bean
+    @Lazy(false)
+    @ConditionalOnProperty("vacation.tenant.calendar-dir")
+    public TenantCalendarWatcher tenantCalendarWatcher(@Value("${vacation.tenant.calendar-dir}") Path directory,
+                                                       TenantCalendarRegistry tenantRegistry) throws IOException {
+        TenantCalendarWatcher watcher = new TenantCalendarWatcher(directory, tenantRegistry);
+        watcher.start();
+        return watcher;
+    }
+
+    static Map<String, ProductionCalendar> parse(String location) throws IOException {
+        Map<String, ProductionCalendar> calendars = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String region = StringUtils.stripFilenameExtension(resource.getFilename());
+            try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                calendars.put(region, CalendarSourceParser.parse(region, reader));
+            }
+        }
+        return calendars;
+    }
+
+    /**
+     * Создаётся сразу и при {@code spring.main.lazy-initialization}: иначе за файлом никто не следил бы
+     */
+    @Bean
+    @Lazy(false)
+    @ConditionalOnProperty("vacation.calendar.file")
+    public CalendarFileWatcher calendarFileWatcher(@Value("${vacation.calendar.file}") Path file,
+                                                   ProductionCalendarRegistry registry,
+                                                   MeterRegistry meterRegistry) throws IOException {
+        CalendarFileWatcher watcher = new CalendarFileWatcher(file, registry, meterRegistry);
+        watcher.start();
+        return watcher;
+    }
+
+    @Bean
+    public CalendarEndpoint calendarEndpoint(ProductionCalendarRegistry registry,
+                                             ObjectProvider<CalendarFileWatcher> fileWatcher) {
+        return new CalendarEndpoint(registry, fileWatcher);
+    }
+}
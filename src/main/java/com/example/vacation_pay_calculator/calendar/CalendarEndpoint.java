@@ -0,0 +1,45 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Версия, время загрузки и занимаемая память календарей: {@code GET /actuator/calendar}
+ */
+@Endpoint(id = "calendar")
+public class CalendarEndpoint {
+
+    private final ProductionCalendarRegistry registry;
+    private final ObjectProvider<CalendarFileWatcher> fileWatcher;
+
+    public CalendarEndpoint(ProductionCalendarRegistry registry, ObjectProvider<CalendarFileWatcher> fileWatcher) {
+        this.registry = registry;
+        this.fileWatcher = fileWatcher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> calendar() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", registry.getVersion());
+        body.put("loadedAt", registry.getLoadedAt());
+        body.put("defaultRegion", registry.getDefaultRegion());
+        body.put("regions", new TreeSet<>(registry.getRegions()));
+        body.put("estimatedHeapBytes", registry.getEstimatedHeapBytes());
+
+        CalendarFileWatcher watcher = fileWatcher.getIfAvailable();
+        if (watcher != null) {
+            body.put("file", watcher.getFile().toString());
+            body.put("reloadCount", watcher.getReloadCount());
+            body.put("failedReloadCount", watcher.getFailedReloadCount());
+            body.put("lastReloadDuration", watcher.getLastReloadDuration());
+            body.put("lastFailureAt", watcher.getLastFailureAt());
+            body.put("lastError", watcher.getLastError());
+        }
+        return body;
+    }
+}
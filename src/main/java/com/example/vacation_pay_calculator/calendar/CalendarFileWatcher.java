@@ -0,0 +1,154 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Загружает календари из двоичного файла ({@link CalendarBundle}) и перезагружает их при каждом изменении файла.
+ * Новый набор подменяется в {@link ProductionCalendarRegistry} целиком; если файл не читается,
+ * остаётся прежний набор. Файл следует обновлять атомарным переименованием ({@link CalendarBundle#write(Path)}).
+ */
+public class CalendarFileWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarFileWatcher.class);
+
+    private final Path file;
+    private final ProductionCalendarRegistry registry;
+    private final Timer successfulReloads;
+    private final Timer failedReloads;
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong failedReloadCount = new AtomicLong();
+    private volatile Duration lastReloadDuration = Duration.ZERO;
+    private volatile Instant lastFailureAt;
+    private volatile String lastError;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public CalendarFileWatcher(Path file, ProductionCalendarRegistry registry, MeterRegistry meterRegistry) {
+        this.file = file.toAbsolutePath();
+        this.registry = registry;
+        this.successfulReloads = reloadTimer(meterRegistry, "success");
+        this.failedReloads = reloadTimer(meterRegistry, "failure");
+        Gauge.builder("vacation.calendar.version", registry, ProductionCalendarRegistry::getVersion)
+                .description("Version of the loaded production calendar bundle")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Загружает файл и начинает следить за ним. Если файл не читается при запуске, приложение не стартует.
+     */
+    public void start() throws IOException {
+        if (!reload()) {
+            throw new IllegalStateException("Cannot load calendar bundle '" + file + "': " + lastError);
+        }
+
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watchThread = new Thread(this::watch, "calendar-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Перечитывает файл и подменяет календари
+     *
+     * @return {@code false}, если файл не удалось прочитать и календари не изменились
+     */
+    public boolean reload() {
+        long startedAt = System.nanoTime();
+        try {
+            CalendarBundle bundle = CalendarBundle.read(file);
+            registry.replace(bundle.getCalendars(), bundle.getVersion());
+
+            lastReloadDuration = Duration.ofNanos(System.nanoTime() - startedAt);
+            successfulReloads.record(lastReloadDuration);
+            reloadCount.incrementAndGet();
+            log.info("Loaded calendar bundle version {} from {} in {} ms",
+                    bundle.getVersion(), file, lastReloadDuration.toMillis());
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            failedReloads.record(Duration.ofNanos(System.nanoTime() - startedAt));
+            failedReloadCount.incrementAndGet();
+            lastFailureAt = Instant.now();
+            lastError = ex.toString();
+            log.warn("Calendar bundle {} was not reloaded, keeping version {}: {}", file, registry.getVersion(), ex.toString());
+            return false;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    public long getFailedReloadCount() {
+        return failedReloadCount.get();
+    }
+
+    public Duration getLastReloadDuration() {
+        return lastReloadDuration;
+    }
+
+    public Instant getLastFailureAt() {
+        return lastFailureAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context());
+                }
+                key.reset();
+
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException ex) {
+            // сервис закрыт при остановке приложения
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Timer reloadTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("vacation.calendar.reload")
+                .description("Production calendar bundle reloads")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Разбор текстового файла производственного календаря.
+ * <pre>
+ * # комментарий
+ * 2026 holidays 01-01..01-09 02-23 03-09
+ * 2024 workdays 04-27 11-02 12-28
+ * 2025 shortdays 03-07 04-30 06-11 11-01
+ * </pre>
+ * {@code holidays} — нерабочие праздничные дни (включая перенесённые выходные),
+ * {@code workdays} — перенесённые рабочие дни, выпадающие на субботу или воскресенье,
+ * {@code shortdays} — рабочие дни, сокращённые на час.
+ */
+public final class CalendarSourceParser {
+
+    private static final String HOLIDAYS = "holidays";
+    private static final String WORKDAYS = "workdays";
+    private static final String SHORTDAYS = "shortdays";
+    private static final String RANGE_SEPARATOR = "..";
+
+    private CalendarSourceParser() {
+    }
+
+    public static ProductionCalendar parse(String region, Reader source) throws IOException {
+        Map<Integer, long[]> holidays = new TreeMap<>();
+        Map<Integer, long[]> workdays = new TreeMap<>();
+        Map<Integer, long[]> shortdays = new TreeMap<>();
+
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = content.split("\\s+");
+            try {
+                if (tokens.length < 2) {
+                    throw new IllegalArgumentException("expected '<year> holidays|workdays|shortdays <days>'");
+                }
+
+                int year = Integer.parseInt(tokens[0]);
+                Map<Integer, long[]> target;
+                if (HOLIDAYS.equals(tokens[1])) {
+                    target = holidays;
+                } else if (WORKDAYS.equals(tokens[1])) {
+                    target = workdays;
+                } else if (SHORTDAYS.equals(tokens[1])) {
+                    target = shortdays;
+                } else {
+                    throw new IllegalArgumentException("unknown day kind '" + tokens[1] + "'");
+                }
+
+                long[] bits = target.computeIfAbsent(year, y -> DayBits.newYearBitmap());
+                for (int i = 2; i < tokens.length; i++) {
+                    markDays(bits, year, tokens[i]);
+                }
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                throw new IllegalStateException(String.format(
+                        "Malformed calendar '%s' at line %d: %s", region, lineNumber, ex.getMessage()), ex);
+            }
+        }
+
+        Set<Integer> yearNumbers = new TreeSet<>(holidays.keySet());
+        yearNumbers.addAll(workdays.keySet());
+        yearNumbers.addAll(shortdays.keySet());
+
+        List<YearCalendar> years = new ArrayList<>();
+        for (Integer year : yearNumbers) {
+            years.add(new YearCalendar(year,
+                    holidays.getOrDefault(year, DayBits.newYearBitmap()),
+                    workdays.getOrDefault(year, DayBits.newYearBitmap()),
+                    shortdays.getOrDefault(year, DayBits.newYearBitmap())));
+        }
+
+        return new ProductionCalendar(region, years);
+    }
+
+    private static void markDays(long[] bits, int year, String token) {
+        int separator = token.indexOf(RANGE_SEPARATOR);
+        LocalDate from = parseDay(year, separator >= 0 ? token.substring(0, separator) : token);
+        LocalDate to = separator >= 0 ? parseDay(year, token.substring(separator + RANGE_SEPARATOR.length())) : from;
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("range '" + token + "' ends before it starts");
+        }
+
+        for (int day = from.getDayOfYear(); day <= to.getDayOfYear(); day++) {
+            DayBits.set(bits, day - 1);
+        }
+    }
+
+    private static LocalDate parseDay(int year, String monthDay) {
+        int dash = monthDay.indexOf('-');
+        if (dash < 0) {
+            throw new IllegalArgumentException("expected MM-DD but got '" + monthDay + "'");
+        }
+
+        return LocalDate.of(year,
+                Integer.parseInt(monthDay.substring(0, dash)),
+                Integer.parseInt(monthDay.substring(dash + 1)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.vacation_pay_calculator.calendar;
+
+/**
+ * Операции над битовыми картами дней года: бит i соответствует i-му дню года (с нуля)
+ */
+public final class DayBits {
+
+    /**
+     * 6 × 64 бит вмещают 366 дней високосного года
+     */
+    public static final int WORDS_PER_YEAR = 6;
+
+    /**
+     * Заголовок массива (16 байт в 64-битной JVM со сжатыми указателями) и 6 × long
+     */
+    static final int BITMAP_HEAP_BYTES = 16 + WORDS_PER_YEAR * Long.BYTES;
+
+    private DayBits() {
+    }
+
+    public static long[] newYearBitmap() {
+        return new long[WORDS_PER_YEAR];
+    }
+
+    public static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Сбрасывает биты начиная с index: дни за концом года
+     */
+    public static void clearFrom(long[] bits, int index) {
+        int word = index >>> 6;
+        if (word < bits.length) {
+            bits[word] &= (1L << index) - 1;
+            for (int i = word + 1; i < bits.length; i++) {
+                bits[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Количество установленных битов в диапазоне [0, index)
+     */
+    public static int countBefore(long[] bits, int index) {
+        int word = index >>> 6;
+        int count = 0;
+        for (int i = 0; i < word; i++) {
+            count += Long.bitCount(bits[i]);
+        }
+
+        if (word < bits.length) {
+            count += Long.bitCount(bits[word] & ((1L << index) - 1));
+        }
+
+        return count;
+    }
+
+    /**
+     * Количество установленных битов в диапазоне [from, to)
+     */
+    public static int countRange(long[] bits, int from, int to) {
+        return countBefore(bits, to) - countBefore(bits, from);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.vacation_pay_calculator.calendar;
+
+/**
+ * Тип дня по производственному календарю (пятидневная рабочая неделя)
+ */
+public enum DayType {
+
+    WORKING,
+
+    /**
+     * Рабочий день, сокращённый на час (предпраздничный)
+     */
+    SHORTENED,
+
+    /**
+     * Выходной: суббота или воскресенье, не перенесённые на рабочий день
+     */
+    WEEKEND,
+
+    /**
+     * Нерабочий праздничный день, в том числе перенесённый выходной
+     */
+    HOLIDAY
+}
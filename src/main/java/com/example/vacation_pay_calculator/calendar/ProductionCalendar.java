@@ -0,0 +1,271 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Многолетний производственный календарь региона.
+ * Годы хранятся непрерывным диапазоном; за его пределами праздников нет.
+ * Все запросы по эпохальным дням выполняются без аллокаций.
+ * Рабочие дни по графику считаются по битовым картам, которые строятся при первом запросе графика.
+ */
+public final class ProductionCalendar {
+
+    private final String region;
+    private final YearCalendar[] years;
+
+    /**
+     * yearStarts[i] — эпохальный день 1 января i-го года, последний элемент — 1 января следующего за диапазоном года
+     */
+    private final long[] yearStarts;
+
+    /**
+     * holidaysBeforeYear[i] — количество праздников во всех годах диапазона до i-го
+     */
+    private final long[] holidaysBeforeYear;
+
+    private final Map<WorkSchedule, ScheduleIndex> scheduleIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Вызывается после построения индекса графика, см. {@link #onScheduleIndexBuilt(Runnable)}
+     */
+    private volatile Runnable scheduleIndexListener;
+
+    public ProductionCalendar(String region, List<YearCalendar> yearCalendars) {
+        this.region = region;
+
+        List<YearCalendar> sorted = yearCalendars.stream()
+                .sorted(Comparator.comparingInt(YearCalendar::getYear))
+                .collect(Collectors.toList());
+
+        if (sorted.isEmpty()) {
+            this.years = new YearCalendar[0];
+        } else {
+            int firstYear = sorted.get(0).getYear();
+            int lastYear = sorted.get(sorted.size() - 1).getYear();
+            this.years = new YearCalendar[lastYear - firstYear + 1];
+            for (YearCalendar yearCalendar : sorted) {
+                int index = yearCalendar.getYear() - firstYear;
+                if (years[index] != null) {
+                    throw new IllegalArgumentException("Duplicate year " + yearCalendar.getYear() + " in calendar " + region);
+                }
+                years[index] = yearCalendar;
+            }
+            for (int i = 0; i < years.length; i++) {
+                if (years[i] == null) {
+                    years[i] = YearCalendar.empty(firstYear + i);
+                }
+            }
+        }
+
+        this.yearStarts = new long[years.length + 1];
+        this.holidaysBeforeYear = new long[years.length + 1];
+        for (int i = 0; i < years.length; i++) {
+            yearStarts[i] = LocalDate.of(years[i].getYear(), 1, 1).toEpochDay();
+            yearStarts[i + 1] = yearStarts[i] + years[i].length();
+            holidaysBeforeYear[i + 1] = holidaysBeforeYear[i] + years[i].holidayCount();
+        }
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public List<YearCalendar> getYears() {
+        return List.of(years);
+    }
+
+    /**
+     * Календарь года; для года вне диапазона — пустой календарь без праздников
+     */
+    public YearCalendar getYear(int year) {
+        if (years.length == 0 || year < years[0].getYear() || year > years[years.length - 1].getYear()) {
+            return YearCalendar.empty(year);
+        }
+
+        return years[year - years[0].getYear()];
+    }
+
+    /**
+     * Календарь региона с наложенным календарём {@code overlay} (например, корпоративными нерабочими днями),
+     * см. {@link YearCalendar#withDaysOf(YearCalendar)}. Диапазон лет — объединение диапазонов обоих календарей.
+     */
+    public ProductionCalendar withDaysOf(ProductionCalendar overlay) {
+        if (overlay.years.length == 0) {
+            return this;
+        }
+
+        int firstYear = overlay.years[0].getYear();
+        int lastYear = overlay.years[overlay.years.length - 1].getYear();
+        if (years.length > 0) {
+            firstYear = Math.min(firstYear, years[0].getYear());
+            lastYear = Math.max(lastYear, years[years.length - 1].getYear());
+        }
+
+        List<YearCalendar> merged = new ArrayList<>(lastYear - firstYear + 1);
+        for (int year = firstYear; year <= lastYear; year++) {
+            merged.add(getYear(year).withDaysOf(overlay.getYear(year)));
+        }
+        return new ProductionCalendar(region, merged);
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return isHoliday(date.toEpochDay());
+    }
+
+    public boolean isHoliday(long epochDay) {
+        int index = yearIndex(epochDay);
+        return index >= 0 && years[index].isHoliday((int) (epochDay - yearStarts[index]));
+    }
+
+    public DayType dayType(long epochDay) {
+        int index = yearIndex(epochDay);
+        if (index < 0) {
+            // Вне диапазона праздников нет, тип дня — по дню недели; 1 января 1970 года — четверг
+            return Math.floorMod(epochDay + 3, 7L) >= DayOfWeek.SATURDAY.ordinal() ? DayType.WEEKEND : DayType.WORKING;
+        }
+        return years[index].dayType((int) (epochDay - yearStarts[index]));
+    }
+
+    public boolean isTransferredWorkingDay(long epochDay) {
+        int index = yearIndex(epochDay);
+        return index >= 0 && years[index].isTransferredWorkingDay((int) (epochDay - yearStarts[index]));
+    }
+
+    /**
+     * Количество праздников в периоде [start, end] включительно
+     */
+    public long countHolidays(LocalDate start, LocalDate end) {
+        return countHolidays(start.toEpochDay(), end.toEpochDay());
+    }
+
+    public long countHolidays(long startEpochDay, long endEpochDay) {
+        return holidaysBefore(endEpochDay + 1) - holidaysBefore(startEpochDay);
+    }
+
+    /**
+     * Количество праздников строго до указанного эпохального дня
+     */
+    public long holidaysBefore(long epochDay) {
+        if (years.length == 0 || epochDay <= yearStarts[0]) {
+            return 0;
+        }
+
+        if (epochDay >= yearStarts[years.length]) {
+            return holidaysBeforeYear[years.length];
+        }
+
+        int index = yearIndex(epochDay);
+        return holidaysBeforeYear[index] + years[index].holidaysBefore((int) (epochDay - yearStarts[index]));
+    }
+
+    /**
+     * Количество рабочих дней графика в периоде [start, end] включительно.
+     * За пределами диапазона лет календаря учитывается только шаблон графика.
+     */
+    public long countWorkingDays(WorkSchedule schedule, long startEpochDay, long endEpochDay) {
+        ScheduleIndex index = scheduleIndexes.get(schedule);
+        if (index == null) {
+            index = scheduleIndexes.computeIfAbsent(schedule, ScheduleIndex::new);
+            Runnable listener = scheduleIndexListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+        return index.workingBefore(endEpochDay + 1) - index.workingBefore(startEpochDay);
+    }
+
+    /**
+     * Рабочий ли день графика; согласуется с {@link #countWorkingDays(WorkSchedule, long, long)}
+     */
+    public boolean isWorkingDay(WorkSchedule schedule, long epochDay) {
+        return countWorkingDays(schedule, epochDay, epochDay) == 1;
+    }
+
+    /**
+     * Подписка на построение индексов графиков: после неё {@link #estimatedHeapBytes()} возвращает больше.
+     * Может вызываться повторно для уже построенного индекса, если его строили несколько потоков сразу.
+     */
+    void onScheduleIndexBuilt(Runnable listener) {
+        this.scheduleIndexListener = listener;
+    }
+
+    /**
+     * Оценка памяти, занятой календарём в куче: годы, накопленные суммы и построенные индексы графиков.
+     * Не учитывает выравнивание объектов, поэтому точна до нескольких байт на объект.
+     */
+    public long estimatedHeapBytes() {
+        long bytes = 16 + 4L * years.length + 2 * (16 + 8L * (years.length + 1));
+        for (YearCalendar year : years) {
+            bytes += year.estimatedHeapBytes();
+        }
+        for (ScheduleIndex index : scheduleIndexes.values()) {
+            bytes += 16 + 4L * years.length + 16 + 8L * (years.length + 1);
+            if (!index.schedule.usesCalendarWorkingDays()) {
+                bytes += (long) years.length * DayBits.BITMAP_HEAP_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    private int yearIndex(long epochDay) {
+        if (years.length == 0 || epochDay < yearStarts[0] || epochDay >= yearStarts[years.length]) {
+            return -1;
+        }
+
+        int found = Arrays.binarySearch(yearStarts, epochDay);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * Рабочие дни графика по годам календаря: битовые карты и накопленные суммы
+     */
+    private final class ScheduleIndex {
+
+        private final WorkSchedule schedule;
+        private final long[][] bitmaps;
+
+        /**
+         * workingBeforeYear[i] — рабочих дней во всех годах диапазона до i-го
+         */
+        private final long[] workingBeforeYear;
+
+        private ScheduleIndex(WorkSchedule schedule) {
+            this.schedule = schedule;
+            this.bitmaps = new long[years.length][];
+            this.workingBeforeYear = new long[years.length + 1];
+            for (int i = 0; i < years.length; i++) {
+                bitmaps[i] = schedule.yearBitmap(years[i], yearStarts[i]);
+                workingBeforeYear[i + 1] = workingBeforeYear[i] + DayBits.countBefore(bitmaps[i], years[i].length());
+            }
+        }
+
+        /**
+         * Рабочих дней от 1 января первого года диапазона до epochDay (отрицательное для более ранних дней)
+         */
+        private long workingBefore(long epochDay) {
+            if (years.length == 0) {
+                return schedule.scheduledBefore(epochDay);
+            }
+
+            if (epochDay <= yearStarts[0]) {
+                return schedule.scheduledBefore(epochDay) - schedule.scheduledBefore(yearStarts[0]);
+            }
+
+            if (epochDay >= yearStarts[years.length]) {
+                return workingBeforeYear[years.length]
+                        + schedule.scheduledBefore(epochDay) - schedule.scheduledBefore(yearStarts[years.length]);
+            }
+
+            int index = yearIndex(epochDay);
+            return workingBeforeYear[index] + DayBits.countBefore(bitmaps[index], (int) (epochDay - yearStarts[index]));
+        }
+    }
+}
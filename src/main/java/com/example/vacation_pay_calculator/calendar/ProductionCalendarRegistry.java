@@ -0,0 +1,127 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Производственные календари, доступные сервису, по идентификатору региона.
+ * Набор календарей можно заменить целиком; подписчики получают описание изменившихся периодов.
+ * <p>
+ * Календари, версия и время загрузки хранятся одним неизменяемым снимком за volatile-ссылкой:
+ * замена не блокирует чтение, а расчёт, начатый до замены, видит старый набор целиком.
+ */
+public class ProductionCalendarRegistry {
+
+    private final String defaultRegion;
+    private final List<Consumer<CalendarChange>> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot;
+
+    public ProductionCalendarRegistry(Map<String, ProductionCalendar> calendars, String defaultRegion) {
+        this.defaultRegion = defaultRegion;
+        this.snapshot = new Snapshot(validated(calendars), 0, Instant.now());
+    }
+
+    /**
+     * @param region идентификатор региона; {@code null} — регион по умолчанию
+     */
+    public ProductionCalendar get(String region) {
+        Map<String, ProductionCalendar> current = snapshot.calendars;
+        if (region == null) {
+            return current.get(defaultRegion);
+        }
+
+        ProductionCalendar calendar = current.get(region);
+        if (calendar == null) {
+            throw new InvalidInputException("Unknown calendar region: " + region);
+        }
+
+        return calendar;
+    }
+
+    public String getDefaultRegion() {
+        return defaultRegion;
+    }
+
+    public Set<String> getRegions() {
+        return snapshot.calendars.keySet();
+    }
+
+    /**
+     * Версия текущего набора календарей; {@code 0} — календари из ресурсов приложения
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    public Instant getLoadedAt() {
+        return snapshot.loadedAt;
+    }
+
+    /**
+     * Оценка памяти, занятой календарями всех регионов, см. {@link ProductionCalendar#estimatedHeapBytes()}
+     */
+    public long getEstimatedHeapBytes() {
+        long bytes = 0;
+        for (ProductionCalendar calendar : snapshot.calendars.values()) {
+            bytes += calendar.estimatedHeapBytes();
+        }
+        return bytes;
+    }
+
+    public void addChangeListener(Consumer<CalendarChange> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Атомарно заменяет набор календарей и уведомляет подписчиков об изменившихся периодах
+     */
+    public synchronized void replace(Map<String, ProductionCalendar> newCalendars) {
+        replace(newCalendars, snapshot.version);
+    }
+
+    /**
+     * То же, что {@link #replace(Map)}, с новой версией набора календарей
+     */
+    public synchronized void replace(Map<String, ProductionCalendar> newCalendars, long version) {
+        Map<String, ProductionCalendar> previous = snapshot.calendars;
+        Map<String, ProductionCalendar> current = validated(newCalendars);
+        snapshot = new Snapshot(current, version, Instant.now());
+
+        Set<String> regions = new HashSet<>(previous.keySet());
+        regions.addAll(current.keySet());
+        for (String region : regions) {
+            CalendarChange change = CalendarChange.between(region, previous.get(region), current.get(region));
+            if (change != null) {
+                changeListeners.forEach(listener -> listener.accept(change));
+            }
+        }
+    }
+
+    private Map<String, ProductionCalendar> validated(Map<String, ProductionCalendar> calendars) {
+        if (!calendars.containsKey(defaultRegion)) {
+            throw new IllegalStateException("No calendar found for the default region '" + defaultRegion + "'");
+        }
+
+        return Map.copyOf(calendars);
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, ProductionCalendar> calendars;
+        private final long version;
+        private final Instant loadedAt;
+
+        private Snapshot(Map<String, ProductionCalendar> calendars, long version, Instant loadedAt) {
+            this.calendars = calendars;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Производственные календари организаций-арендаторов: календарь региона с наложенными корпоративными
+ * нерабочими днями арендатора (см. {@link ProductionCalendar#withDaysOf(ProductionCalendar)}).
+ * Арендатор без корпоративного календаря пользуется календарём региона без изменений.
+ * <p>
+ * Составной календарь строится при первом запросе пары «арендатор, регион» и хранится в кэше Caffeine.
+ * Чтение — поиск в {@code ConcurrentHashMap} без блокировок, а учёт обращений пишется в полосатые буферы,
+ * поэтому потоки не конкурируют между собой; блокируется только построение отсутствующего календаря.
+ * Объём кэша ограничен суммой оценок {@link ProductionCalendar#estimatedHeapBytes()},
+ * календари арендаторов, к которым давно не обращались, вытесняются. Индексы графиков работы строятся
+ * в составном календаре позже, при первом подсчёте рабочих дней, поэтому после построения индекса
+ * запись взвешивается заново.
+ * При замене календарей регионов составные календари изменившихся регионов удаляются.
+ * <p>
+ * Изменённый корпоративный календарь подхватывается через {@link #reload(String)} (его вызывает
+ * {@link TenantCalendarWatcher}): составные календари арендатора удаляются, подписчики — кэш результатов —
+ * удаляют посчитанное по ним. Календарь, который строился во время перезагрузки, мог прочитать старый файл,
+ * поэтому записи помечены поколением перезагрузок, как записи кэша результатов: запись прежнего поколения
+ * при чтении строится заново.
+ */
+public class TenantCalendarRegistry {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+
+    /**
+     * Ключ, запись кэша и ссылки на них
+     */
+    private static final int ENTRY_HEAP_BYTES = 128;
+
+    private final ProductionCalendarRegistry regionCalendars;
+    private final Function<String, ProductionCalendar> overlays;
+    private final Cache<TenantRegion, TenantCalendar> calendars;
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Consumer<String>> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Реестр без корпоративных календарей: для любого арендатора возвращается календарь региона
+     */
+    public TenantCalendarRegistry(ProductionCalendarRegistry regionCalendars) {
+        this(regionCalendars, tenant -> null, Long.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * @param overlays         корпоративный календарь по идентификатору арендатора; {@code null} — корпоративных дней нет
+     * @param maximumHeapBytes предел суммарной оценки памяти составных календарей
+     * @param idleTimeout      время без обращений, после которого календарь арендатора вытесняется;
+     *                         {@link Duration#ZERO} — не вытесняется по времени
+     */
+    public TenantCalendarRegistry(ProductionCalendarRegistry regionCalendars,
+                                  Function<String, ProductionCalendar> overlays,
+                                  long maximumHeapBytes,
+                                  Duration idleTimeout) {
+        this.regionCalendars = regionCalendars;
+        this.overlays = overlays;
+
+        Caffeine<TenantRegion, TenantCalendar> builder = Caffeine.newBuilder()
+                .maximumWeight(maximumHeapBytes)
+                .weigher((TenantRegion key, TenantCalendar value) -> value.getWeight())
+                .recordStats();
+        if (idleTimeout != null && !idleTimeout.isZero()) {
+            builder.expireAfterAccess(idleTimeout);
+        }
+        this.calendars = builder.build();
+
+        regionCalendars.addChangeListener(this::invalidate);
+    }
+
+    /**
+     * Корпоративные календари из каталога: файл {@code <арендатор>.cal} в формате {@link CalendarSourceParser};
+     * файл читается при построении составного календаря, отсутствие файла — отсутствие корпоративных дней.
+     * Изменения файлов отслеживает {@link TenantCalendarWatcher}.
+     */
+    public static Function<String, ProductionCalendar> overlaysFrom(Path directory) {
+        return tenant -> {
+            Path file = directory.resolve(tenant + ".cal");
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                return CalendarSourceParser.parse(tenant, reader);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to read tenant calendar " + file, ex);
+            }
+        };
+    }
+
+    /**
+     * @param tenant идентификатор арендатора; {@code null} — календарь региона без корпоративных дней
+     * @param region идентификатор региона; {@code null} — регион по умолчанию
+     */
+    public ProductionCalendar get(String tenant, String region) {
+        ProductionCalendar regionCalendar = regionCalendars.get(region);
+        if (tenant == null) {
+            return regionCalendar;
+        }
+
+        TenantRegion key = new TenantRegion(tenant, regionCalendar.getRegion());
+        long expected = generation.get();
+        TenantCalendar calendar = calendars.getIfPresent(key);
+        if (calendar == null || !calendar.isBuiltFor(regionCalendar, expected)) {
+            // Календарь построен по заменённому календарю региона или старому файлу арендатора либо ещё не построен
+            calendar = calendars.asMap().compute(key, (k, existing) -> existing != null && existing.isBuiltFor(regionCalendar, expected)
+                    ? existing
+                    : compose(k, regionCalendar, expected));
+        }
+        return calendar.getCalendar();
+    }
+
+    /**
+     * Подписка на изменения корпоративных календарей: получает идентификатор арендатора,
+     * {@code null} — могли измениться календари всех арендаторов
+     */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Удаляет составные календари арендатора: при следующем запросе его файл читается заново
+     *
+     * @param tenant идентификатор арендатора; {@code null} — все арендаторы
+     */
+    public void reload(String tenant) {
+        long current = generation.incrementAndGet();
+        Iterator<Map.Entry<TenantRegion, TenantCalendar>> entries = calendars.asMap().entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<TenantRegion, TenantCalendar> entry = entries.next();
+            if (tenant == null || tenant.equals(entry.getKey().getTenant())) {
+                entries.remove();
+            } else {
+                entry.getValue().generation = current;
+            }
+        }
+        changeListeners.forEach(listener -> listener.accept(tenant));
+    }
+
+    public long getSize() {
+        return calendars.estimatedSize();
+    }
+
+    /**
+     * Оценка памяти составных календарей, по которой ограничивается кэш
+     */
+    public long getEstimatedHeapBytes() {
+        return calendars.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    Cache<TenantRegion, TenantCalendar> getCache() {
+        return calendars;
+    }
+
+    private TenantCalendar compose(TenantRegion key, ProductionCalendar regionCalendar, long generation) {
+        String tenant = key.getTenant();
+        if (!TENANT_ID.matcher(tenant).matches()) {
+            throw new InvalidInputException("Invalid tenant: " + tenant);
+        }
+
+        ProductionCalendar overlay = overlays.apply(tenant);
+        ProductionCalendar composed = overlay != null ? regionCalendar.withDaysOf(overlay) : regionCalendar;
+        if (composed == regionCalendar) {
+            // Календарь региона общий для всех арендаторов и в размер кэша не входит
+            return new TenantCalendar(regionCalendar, regionCalendar, ENTRY_HEAP_BYTES, generation);
+        }
+
+        composed.onScheduleIndexBuilt(() -> reweigh(key, composed));
+        return new TenantCalendar(regionCalendar, composed, weigh(composed), generation);
+    }
+
+    private void reweigh(TenantRegion key, ProductionCalendar composed) {
+        calendars.asMap().computeIfPresent(key, (k, existing) -> existing.getCalendar() == composed
+                ? new TenantCalendar(existing.getBase(), composed, weigh(composed), existing.generation)
+                : existing);
+    }
+
+    private static int weigh(ProductionCalendar composed) {
+        return (int) Math.min(ENTRY_HEAP_BYTES + composed.estimatedHeapBytes(), Integer.MAX_VALUE);
+    }
+
+    private void invalidate(CalendarChange change) {
+        calendars.asMap().keySet().removeIf(key -> key.getRegion().equals(change.getRegion()));
+    }
+
+    @Value
+    static class TenantRegion {
+        String tenant;
+        String region;
+    }
+
+    static final class TenantCalendar {
+
+        /**
+         * Календарь региона, по которому построен {@link #calendar}
+         */
+        private final ProductionCalendar base;
+        private final ProductionCalendar calendar;
+        private final int weight;
+
+        /**
+         * Поколение перезагрузок корпоративных календарей, в котором запись действительна
+         */
+        private volatile long generation;
+
+        TenantCalendar(ProductionCalendar base, ProductionCalendar calendar, int weight, long generation) {
+            this.base = base;
+            this.calendar = calendar;
+            this.weight = weight;
+            this.generation = generation;
+        }
+
+        ProductionCalendar getBase() {
+            return base;
+        }
+
+        ProductionCalendar getCalendar() {
+            return calendar;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+
+        boolean isBuiltFor(ProductionCalendar regionCalendar, long expectedGeneration) {
+            return base == regionCalendar && generation == expectedGeneration;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Следит за каталогом корпоративных календарей ({@link TenantCalendarRegistry#overlaysFrom(Path)}):
+ * при создании, изменении или удалении файла {@code <арендатор>.cal} календари арендатора перечитываются
+ * ({@link TenantCalendarRegistry#reload(String)}). Если события потеряны, перечитываются все арендаторы.
+ */
+public class TenantCalendarWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantCalendarWatcher.class);
+
+    private static final String EXTENSION = ".cal";
+
+    private final Path directory;
+    private final TenantCalendarRegistry registry;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public TenantCalendarWatcher(Path directory, TenantCalendarRegistry registry) {
+        this.directory = directory.toAbsolutePath();
+        this.registry = registry;
+    }
+
+    public void start() throws IOException {
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        watchThread = new Thread(this::watch, "tenant-calendar-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        log.info("Tenant calendar events were lost in {}, reloading all tenants", directory);
+                        registry.reload(null);
+                        continue;
+                    }
+
+                    String fileName = event.context().toString();
+                    if (fileName.endsWith(EXTENSION)) {
+                        String tenant = fileName.substring(0, fileName.length() - EXTENSION.length());
+                        log.info("Tenant calendar {} changed, reloading tenant '{}'", fileName, tenant);
+                        registry.reload(tenant);
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException ex) {
+            // сервис закрыт при остановке приложения
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
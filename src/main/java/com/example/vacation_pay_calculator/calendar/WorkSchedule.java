@@ -0,0 +1,146 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * График работы: циклический шаблон рабочих дней и правила наложения производственного календаря.
+ * Недельные графики — цикл из 7 дней от понедельника, сменные — цикл произвольной длины от даты привязки.
+ * <p>
+ * Календарь строит по графику битовые карты рабочих дней по годам
+ * ({@link ProductionCalendar#countWorkingDays(WorkSchedule, long, long)}) и хранит их, пока жив сам календарь,
+ * поэтому графики должны быть долгоживущими объектами.
+ */
+public final class WorkSchedule {
+
+    private static final char WORKING = 'W';
+    private static final char REST = '-';
+    private static final long FIRST_MONDAY = LocalDate.of(1970, 1, 5).toEpochDay();
+
+    private final String name;
+    private final boolean[] pattern;
+    private final long anchorEpochDay;
+    private final boolean excludeHolidays;
+    private final boolean transferredWorkingDays;
+
+    /**
+     * Рабочие дни графика совпадают с рабочими днями пятидневки производственного календаря
+     */
+    private final boolean calendarWorkingDays;
+
+    /**
+     * workingBefore[i] — рабочих дней среди первых i дней цикла
+     */
+    private final int[] workingBefore;
+
+    private WorkSchedule(String name, String pattern, long anchorEpochDay,
+                         boolean excludeHolidays, boolean transferredWorkingDays, boolean calendarWorkingDays) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Work schedule '" + name + "' has an empty pattern");
+        }
+
+        this.name = name;
+        this.pattern = new boolean[pattern.length()];
+        this.workingBefore = new int[pattern.length() + 1];
+        for (int i = 0; i < pattern.length(); i++) {
+            char day = pattern.charAt(i);
+            if (day != WORKING && day != REST) {
+                throw new IllegalArgumentException("Work schedule '" + name + "' pattern may contain only '"
+                        + WORKING + "' and '" + REST + "' but was '" + pattern + "'");
+            }
+            this.pattern[i] = day == WORKING;
+            this.workingBefore[i + 1] = workingBefore[i] + (this.pattern[i] ? 1 : 0);
+        }
+        this.anchorEpochDay = anchorEpochDay;
+        this.excludeHolidays = excludeHolidays;
+        this.transferredWorkingDays = transferredWorkingDays;
+        this.calendarWorkingDays = calendarWorkingDays;
+    }
+
+    /**
+     * Пятидневка по производственному календарю: праздники не рабочие, перенесённые субботы и воскресенья — рабочие
+     */
+    public static WorkSchedule fiveDayWeek() {
+        return new WorkSchedule("five-day-week", "WWWWW--", FIRST_MONDAY, true, true, true);
+    }
+
+    /**
+     * Шестидневка: выходной — воскресенье, праздники не рабочие
+     */
+    public static WorkSchedule sixDayWeek() {
+        return new WorkSchedule("six-day-week", "WWWWWW-", FIRST_MONDAY, true, false, false);
+    }
+
+    /**
+     * Сменный график, например {@code "WW--"} (два через два)
+     *
+     * @param pattern         {@code W} — рабочий день, {@code -} — выходной
+     * @param anchor          дата, с которой начинается первый цикл; {@code null} — понедельник,
+     *                        тогда семидневный шаблон задаёт дни недели (например, неполная неделя {@code "WWW----"})
+     * @param excludeHolidays исключать ли праздники из рабочих дней
+     */
+    public static WorkSchedule cyclic(String name, String pattern, LocalDate anchor, boolean excludeHolidays) {
+        return new WorkSchedule(name, pattern, anchor != null ? anchor.toEpochDay() : FIRST_MONDAY, excludeHolidays, false, false);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Рабочий ли день по шаблону, без учёта производственного календаря
+     */
+    public boolean isScheduled(long epochDay) {
+        return pattern[(int) Math.floorMod(epochDay - anchorEpochDay, (long) pattern.length)];
+    }
+
+    /**
+     * Количество рабочих по шаблону дней от даты привязки до epochDay (отрицательное для дней до привязки)
+     */
+    long scheduledBefore(long epochDay) {
+        long offset = epochDay - anchorEpochDay;
+        long cycles = Math.floorDiv(offset, (long) pattern.length);
+        int position = (int) Math.floorMod(offset, (long) pattern.length);
+        return cycles * workingBefore[pattern.length] + workingBefore[position];
+    }
+
+    /**
+     * Берёт ли график битовые карты рабочих дней у {@link YearCalendar} вместо построения своих
+     */
+    boolean usesCalendarWorkingDays() {
+        return calendarWorkingDays;
+    }
+
+    /**
+     * Битовая карта рабочих дней года с учётом праздников и переносов.
+     * Для пятидневки это карта самого {@link YearCalendar} без копирования; изменять нельзя.
+     */
+    long[] yearBitmap(YearCalendar year, long yearStartEpochDay) {
+        if (calendarWorkingDays) {
+            return year.workingDayBits();
+        }
+
+        long[] bits = DayBits.newYearBitmap();
+        for (int i = 0; i < year.length(); i++) {
+            if (isScheduled(yearStartEpochDay + i)) {
+                DayBits.set(bits, i);
+            }
+        }
+
+        long[] holidays = year.holidayBits();
+        long[] transferred = year.transferredWorkingDayBits();
+        for (int i = 0; i < bits.length; i++) {
+            if (excludeHolidays) {
+                bits[i] &= ~holidays[i];
+            }
+            if (transferredWorkingDays) {
+                bits[i] |= transferred[i];
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
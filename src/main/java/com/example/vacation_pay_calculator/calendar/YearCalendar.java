@@ -0,0 +1,172 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+
+/**
+ * Производственный календарь одного года: нерабочие праздничные дни, перенесённые рабочие дни
+ * (рабочие субботы/воскресенья) и сокращённые предпраздничные дни в виде битовых карт.
+ * Карта рабочих дней пятидневки вычисляется один раз при создании и служит индексом
+ * графика {@link WorkSchedule#fiveDayWeek()} в {@link ProductionCalendar}.
+ */
+public final class YearCalendar {
+
+    /**
+     * Заголовок объекта и поля: 4 × int и 4 ссылки на массивы
+     */
+    private static final int OBJECT_HEAP_BYTES = 12 + 4 * Integer.BYTES + 4 * 4;
+
+    private final int year;
+    private final int length;
+    private final long[] holidays;
+    private final long[] transferredWorkingDays;
+    private final long[] shortenedDays;
+    private final long[] workingDays;
+    private final int holidayCount;
+    private final int workingDayCount;
+
+    YearCalendar(int year, long[] holidays, long[] transferredWorkingDays) {
+        this(year, holidays, transferredWorkingDays, DayBits.newYearBitmap());
+    }
+
+    YearCalendar(int year, long[] holidays, long[] transferredWorkingDays, long[] shortenedDays) {
+        this.year = year;
+        this.length = Year.of(year).length();
+        this.holidays = holidays.clone();
+        this.transferredWorkingDays = transferredWorkingDays.clone();
+        this.shortenedDays = shortenedDays.clone();
+        long[] weekends = weekends(year, length);
+        this.workingDays = DayBits.newYearBitmap();
+        for (int i = 0; i < DayBits.WORDS_PER_YEAR; i++) {
+            workingDays[i] = ~weekends[i] & ~this.holidays[i] | this.transferredWorkingDays[i];
+        }
+        DayBits.clearFrom(workingDays, length);
+        this.holidayCount = DayBits.countBefore(this.holidays, length);
+        this.workingDayCount = DayBits.countBefore(workingDays, length);
+    }
+
+    static YearCalendar empty(int year) {
+        return new YearCalendar(year, DayBits.newYearBitmap(), DayBits.newYearBitmap());
+    }
+
+    private static long[] weekends(int year, int length) {
+        long[] bits = DayBits.newYearBitmap();
+        int dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek().getValue();
+        for (int i = 0; i < length; i++) {
+            if (dayOfWeek >= DayOfWeek.SATURDAY.getValue()) {
+                DayBits.set(bits, i);
+            }
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+        return bits;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int holidayCount() {
+        return holidayCount;
+    }
+
+    /**
+     * Количество рабочих дней пятидневной недели, включая перенесённые и сокращённые
+     */
+    public int workingDayCount() {
+        return workingDayCount;
+    }
+
+    public DayType dayType(int dayIndex) {
+        if (DayBits.get(holidays, dayIndex)) {
+            return DayType.HOLIDAY;
+        }
+        if (!DayBits.get(workingDays, dayIndex)) {
+            return DayType.WEEKEND;
+        }
+        return DayBits.get(shortenedDays, dayIndex) ? DayType.SHORTENED : DayType.WORKING;
+    }
+
+    /**
+     * @param dayIndex номер дня в году, начиная с нуля
+     */
+    public boolean isHoliday(int dayIndex) {
+        return DayBits.get(holidays, dayIndex);
+    }
+
+    public boolean isTransferredWorkingDay(int dayIndex) {
+        return DayBits.get(transferredWorkingDays, dayIndex);
+    }
+
+    /**
+     * Битовая карта праздников без копирования; изменять нельзя
+     */
+    long[] holidayBits() {
+        return holidays;
+    }
+
+    /**
+     * Битовая карта перенесённых рабочих дней без копирования; изменять нельзя
+     */
+    long[] transferredWorkingDayBits() {
+        return transferredWorkingDays;
+    }
+
+    /**
+     * Битовая карта сокращённых дней без копирования; изменять нельзя
+     */
+    long[] shortenedDayBits() {
+        return shortenedDays;
+    }
+
+    /**
+     * Битовая карта рабочих дней пятидневки без копирования; изменять нельзя
+     */
+    long[] workingDayBits() {
+        return workingDays;
+    }
+
+    /**
+     * Оценка памяти в куче: сам объект и четыре битовые карты
+     */
+    long estimatedHeapBytes() {
+        return OBJECT_HEAP_BYTES + 4L * DayBits.BITMAP_HEAP_BYTES;
+    }
+
+    /**
+     * Календарь года с добавленными днями другого календаря того же года: праздники, перенесённые рабочие
+     * и сокращённые дни объединяются, а день, ставший праздником, перестаёт быть рабочим и сокращённым
+     */
+    YearCalendar withDaysOf(YearCalendar overlay) {
+        long[] mergedHolidays = DayBits.newYearBitmap();
+        long[] mergedTransferred = DayBits.newYearBitmap();
+        long[] mergedShortened = DayBits.newYearBitmap();
+        for (int i = 0; i < DayBits.WORDS_PER_YEAR; i++) {
+            mergedHolidays[i] = holidays[i] | overlay.holidays[i];
+            mergedTransferred[i] = (transferredWorkingDays[i] | overlay.transferredWorkingDays[i]) & ~mergedHolidays[i];
+            mergedShortened[i] = (shortenedDays[i] | overlay.shortenedDays[i]) & ~mergedHolidays[i];
+        }
+        return new YearCalendar(year, mergedHolidays, mergedTransferred, mergedShortened);
+    }
+
+    /**
+     * Совпадают ли праздники, перенесённые рабочие и сокращённые дни двух календарей
+     */
+    public boolean hasSameDaysAs(YearCalendar other) {
+        return Arrays.equals(holidays, other.holidays)
+                && Arrays.equals(transferredWorkingDays, other.transferredWorkingDays)
+                && Arrays.equals(shortenedDays, other.shortenedDays);
+    }
+
+    /**
+     * Количество праздников в первых dayIndex днях года
+     */
+    public int holidaysBefore(int dayIndex) {
+        return DayBits.countBefore(holidays, dayIndex);
+    }
+}
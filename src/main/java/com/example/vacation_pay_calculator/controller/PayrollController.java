@@ -0,0 +1,58 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
+import com.example.vacation_pay_calculator.dto.RecordPayrollMonthRequest;
+import com.example.vacation_pay_calculator.service.AverageEarningsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/payroll/{employeeId}")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PayrollController {
+
+    private final AverageEarningsService averageEarningsService;
+
+    /**
+     * @param averageEarningsService {@code @Lazy}: создание контроллера не подключается к базе начислений,
+     *                               это происходит при первом запросе к {@code /payroll}
+     */
+    public PayrollController(@Lazy AverageEarningsService averageEarningsService) {
+        this.averageEarningsService = averageEarningsService;
+    }
+
+    /**
+     * Начисление за месяц; повторная запись того же месяца заменяет предыдущую
+     */
+    @PostMapping("/months")
+    public ResponseEntity<Void> recordMonth(@PathVariable String employeeId,
+                                            @Valid @RequestBody RecordPayrollMonthRequest request) {
+
+        averageEarningsService.recordMonth(employeeId, request.getMonth(), request.getEarnings(),
+                request.getExcludedDays() != null ? request.getExcludedDays() : 0);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * @param month месяц начала отпуска (yyyy-MM); если не задан — последние 12 месяцев истории
+     */
+    @GetMapping("/average")
+    public ResponseEntity<AverageEarnings> average(@PathVariable String employeeId,
+                                                   @RequestParam(required = false)
+                                                   @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+
+        return ResponseEntity.ok(averageEarningsService.average(employeeId, month));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.batch.BatchCalculationProcessor;
+import com.example.vacation_pay_calculator.batch.BatchFormat;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class VacationPayBatchController {
+
+    private final BatchCalculationProcessor batchCalculationProcessor;
+
+    public VacationPayBatchController(BatchCalculationProcessor batchCalculationProcessor) {
+        this.batchCalculationProcessor = batchCalculationProcessor;
+    }
+
+    @PostMapping(value = "/calculate/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void calculateBatch(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        batchCalculationProcessor.process(body, response.getOutputStream(), BatchFormat.JSON_ARRAY);
+    }
+
+    @PostMapping(value = "/calculate/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void calculateBatchNdjson(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        batchCalculationProcessor.process(body, response.getOutputStream(), BatchFormat.NDJSON);
+    }
+
+    @PostMapping(value = "/calculate/batch", consumes = BinaryWireFormat.MEDIA_TYPE_VALUE)
+    public void calculateBatchBinary(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(BinaryWireFormat.MEDIA_TYPE_VALUE);
+        batchCalculationProcessor.process(body, response.getOutputStream(), BatchFormat.BINARY);
+    }
+}
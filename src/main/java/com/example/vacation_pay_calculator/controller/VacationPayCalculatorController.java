@@ -3,14 +3,18 @@ package com.example.vacation_pay_calculator.controller;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
 import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class VacationPayCalculatorController {
 
     private final VacationPayCalculatorService vacationPayCalculatorService;
@@ -19,11 +23,26 @@ public class VacationPayCalculatorController {
         this.vacationPayCalculatorService = vacationPayCalculatorService;
     }
 
+    /**
+     * Запрос связывается из query-параметров: по умолчанию как model attribute с Bean Validation,
+     * при {@code vacation.binding.mode=fast} — {@link com.example.vacation_pay_calculator.binding.CalculateRequestArgumentResolver}
+     */
     @GetMapping("/calculate")
     public ResponseEntity<CalculateVacationPayResponse> calculate (
-            @Valid @ModelAttribute CalculateVacationPayRequest request) {
+            @Valid CalculateVacationPayRequest request) {
 
         CalculateVacationPayResponse response = vacationPayCalculatorService.calculate(request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Тот же расчёт для вызовов между сервисами: запрос и ответ в {@link BinaryWireFormat}.
+     * {@code GET /calculate} тоже отвечает в этом формате при {@code Accept: application/x-vacation-pay}.
+     */
+    @PostMapping(value = "/calculate", consumes = BinaryWireFormat.MEDIA_TYPE_VALUE, produces = BinaryWireFormat.MEDIA_TYPE_VALUE)
+    public ResponseEntity<CalculateVacationPayResponse> calculateBinary(
+            @Valid @RequestBody CalculateVacationPayRequest request) {
+
+        return ResponseEntity.ok(vacationPayCalculatorService.calculate(request));
+    }
 }
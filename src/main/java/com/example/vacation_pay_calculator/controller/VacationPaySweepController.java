@@ -0,0 +1,30 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.dto.SweepVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayResponse;
+import com.example.vacation_pay_calculator.service.VacationPaySweepService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class VacationPaySweepController {
+
+    private final VacationPaySweepService vacationPaySweepService;
+
+    public VacationPaySweepController(VacationPaySweepService vacationPaySweepService) {
+        this.vacationPaySweepService = vacationPaySweepService;
+    }
+
+    /**
+     * Отпускные за {@code vacationDays} календарных дней для каждой даты начала из [from, to]
+     */
+    @GetMapping("/calculate/sweep")
+    public ResponseEntity<SweepVacationPayResponse> sweep(@Valid SweepVacationPayRequest request) {
+        return ResponseEntity.ok(vacationPaySweepService.sweep(request));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.vacation_pay_calculator.controller.advice;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Тело ответа об ошибке; общее для servlet- и reactive-обработчиков и пакетного двоичного формата.
+ * <pre>
+ * {"timestamp":"2026-01-24T12:00:00","status":400,"error":"Invalid input","message":"..."}
+ * {"timestamp":"2026-01-24T12:00:00","status":400,"error":"Validation failed","details":{"field":"..."}}
+ * </pre>
+ * JSON собирается без Jackson: неизменная часть берётся из {@link ErrorType}, метка времени
+ * форматируется не чаще раза в секунду, экранируются только сообщения.
+ */
+public final class ErrorResponse {
+
+    private static final String INTERNAL_ERROR_MESSAGE = "An unexpected error occurred. Please check your request.";
+    private static final ErrorResponse INTERNAL_ERROR = new ErrorResponse(ErrorType.INTERNAL_ERROR, INTERNAL_ERROR_MESSAGE, null);
+
+    private static final byte[] TIMESTAMP_FIELD = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FIELD_SEPARATOR = "\",".getBytes(StandardCharsets.UTF_8);
+
+    private static volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, new byte[0]);
+
+    private final ErrorType type;
+    private final String message;
+    private final Map<String, String> details;
+
+    private ErrorResponse(ErrorType type, String message, Map<String, String> details) {
+        this.type = type;
+        this.message = message;
+        this.details = details;
+    }
+
+    public static ErrorResponse validationFailed(Map<String, String> fieldErrors) {
+        return new ErrorResponse(ErrorType.VALIDATION_FAILED, null, fieldErrors);
+    }
+
+    public static ErrorResponse invalidInput(String message) {
+        return new ErrorResponse(ErrorType.INVALID_INPUT, message, null);
+    }
+
+    public static ErrorResponse internalError() {
+        return INTERNAL_ERROR;
+    }
+
+    public ErrorType getType() {
+        return type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Сообщения по полям для {@link ErrorType#VALIDATION_FAILED}, иначе {@code null}
+     */
+    public Map<String, String> getDetails() {
+        return details;
+    }
+
+    public byte[] toJson() {
+        StringBuilder tail = new StringBuilder(96);
+        if (details != null) {
+            tail.append(",\"details\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : details.entrySet()) {
+                if (!first) {
+                    tail.append(',');
+                }
+                first = false;
+                appendString(tail, entry.getKey()).append(':');
+                appendString(tail, entry.getValue());
+            }
+            tail.append('}');
+        } else {
+            tail.append(",\"message\":");
+            appendString(tail, message);
+        }
+        tail.append('}');
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream(64 + tail.length());
+        json.writeBytes(TIMESTAMP_FIELD);
+        json.writeBytes(currentTimestamp());
+        json.writeBytes(FIELD_SEPARATOR);
+        json.writeBytes(type.jsonFields());
+        json.writeBytes(tail.toString().getBytes(StandardCharsets.UTF_8));
+        return json.toByteArray();
+    }
+
+    private static byte[] currentTimestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        Timestamp cached = timestamp;
+        if (cached.second != second) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault());
+            cached = new Timestamp(second, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now).getBytes(StandardCharsets.US_ASCII));
+            timestamp = cached;
+        }
+        return cached.text;
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+
+    private static final class Timestamp {
+
+        private final long second;
+        private final byte[] text;
+
+        private Timestamp(long second, byte[] text) {
+            this.second = second;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.vacation_pay_calculator.controller.advice;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Пишет {@link ErrorResponse} готовыми байтами {@link ErrorResponse#toJson()}, минуя Jackson
+ */
+public class ErrorResponseMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+
+    public ErrorResponseMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ErrorResponse readInternal(Class<? extends ErrorResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Error responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponse errorResponse, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(errorResponse.toJson());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.vacation_pay_calculator.controller.advice;
+
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Виды ошибок API. Для каждого заранее собрана неизменная часть JSON-тела — статус и название ошибки.
+ */
+public enum ErrorType {
+
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "Validation failed", "validation-failed"),
+    INVALID_INPUT(HttpStatus.BAD_REQUEST, "Invalid input", "invalid-input"),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", "internal-error");
+
+    private final HttpStatus status;
+    private final String error;
+    private final String tag;
+    private final byte[] jsonFields;
+
+    ErrorType(HttpStatus status, String error, String tag) {
+        this.status = status;
+        this.error = error;
+        this.tag = tag;
+        this.jsonFields = ("\"status\":" + status.value() + ",\"error\":\"" + error + "\"")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Значение тега {@code type} в метрике {@code vacation.errors}
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * {@code "status":400,"error":"..."} в UTF-8; массив общий, изменять его нельзя
+     */
+    byte[] jsonFields() {
+        return jsonFields;
+    }
+}
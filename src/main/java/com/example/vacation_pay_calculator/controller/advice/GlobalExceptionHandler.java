@@ -1,61 +1,68 @@
 package com.example.vacation_pay_calculator.controller.advice;
 
-import org.springframework.http.HttpStatus;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Ошибки отдаются как {@link ErrorResponse}: JSON пишет {@link ErrorResponseMessageConverter} без Jackson,
+ * двоичный формат — {@link com.example.vacation_pay_calculator.wire.BinaryCalculateMessageConverter}
+ */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(BindException.class)
-    public ResponseEntity<Map<String, Object>> handleBindException(BindException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Validation failed");
+    private final CalculationMetrics metrics;
+
+    public GlobalExceptionHandler(CalculationMetrics metrics) {
+        this.metrics = metrics;
+    }
 
-        Map<String, String> fieldErrors = new HashMap<>();
-        ex.getBindingResult().getFieldErrors().forEach(error -> fieldErrors.put(error.getField(), error.getDefaultMessage()));
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
+        List<FieldError> errors = ex.getBindingResult().getFieldErrors();
+        Map<String, String> fieldErrors = new LinkedHashMap<>(errors.size() * 2);
+        for (FieldError error : errors) {
+            fieldErrors.put(error.getField(), error.getDefaultMessage());
+            metrics.recordValidationFailure(error.getField());
+        }
 
-        body.put("details", fieldErrors);
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+        return respond(ErrorResponse.validationFailed(fieldErrors));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Invalid input");
-        body.put("message", ex.getMessage());
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
+        return respond(ErrorResponse.invalidInput(ex.getMessage()));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
+        return respond(ErrorResponse.invalidInput(ex.getMostSpecificCause().getMessage()));
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal server error");
-        
-        // Если это обёрнутый IllegalArgumentException, извлекаем его
+    public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
+        // Если это обёрнутый IllegalArgumentException, отвечаем как на ошибку входных данных
         Throwable cause = ex.getCause();
         if (cause instanceof IllegalArgumentException) {
-            body.put("status", HttpStatus.BAD_REQUEST.value());
-            body.put("error", "Invalid input");
-            body.put("message", cause.getMessage());
-            return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+            return respond(ErrorResponse.invalidInput(cause.getMessage()));
         }
-        
-        body.put("message", "An unexpected error occurred. Please check your request.");
+
         // В продакшене можно добавить ex.getMessage(), но без стека
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(ErrorResponse.internalError());
     }
 
-}
\ No newline at end of file
+    private ResponseEntity<ErrorResponse> respond(ErrorResponse errorResponse) {
+        metrics.recordError(errorResponse.getType());
+        return ResponseEntity.status(errorResponse.getType().getStatus()).body(errorResponse);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.vacation_pay_calculator.dto;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Средний дневной заработок за расчётный период (12 календарных месяцев)
+ */
+@Value
+public class AverageEarnings {
+
+    YearMonth from;
+    YearMonth to;
+
+    /**
+     * Начисления за период, руб.
+     */
+    BigDecimal earnings;
+
+    /**
+     * Учитываемые дни: 29.3 за полностью отработанный месяц, пропорционально — за остальные
+     */
+    BigDecimal countedDays;
+
+    /**
+     * Средний дневной заработок = начисления / учитываемые дни (до копеек, HALF_UP)
+     */
+    BigDecimal averageDaily;
+
+    /**
+     * Средний дневной заработок × 29.3 — значение, подставляемое вместо {@code averageSalary}
+     */
+    BigDecimal averageMonthly;
+}
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import javax.validation.constraints.AssertTrue;
@@ -12,6 +13,7 @@ import javax.validation.constraints.Positive;
 import java.time.LocalDate;
 
 @Builder
+@Jacksonized
 @Value
 @AllArgsConstructor(access = AccessLevel.PUBLIC)
 public class CalculateVacationPayRequest {
@@ -28,6 +30,29 @@ public class CalculateVacationPayRequest {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     LocalDate endDate;
 
+    /**
+     * Регион производственного календаря; если не задан — регион по умолчанию
+     */
+    String region;
+
+    /**
+     * Правило подсчёта оплачиваемых дней в режиме «по датам»: {@code calendar-days}, {@code working-days},
+     * {@code six-day-week} или график из настроек; если не задано — правило по умолчанию
+     */
+    String paidDaysPolicy;
+
+    /**
+     * Табельный номер сотрудника: если средняя зарплата не передана, она рассчитывается
+     * по начислениям за 12 месяцев до месяца начала отпуска
+     */
+    String employeeId;
+
+    /**
+     * Организация-арендатор, чьи корпоративные нерабочие дни добавляются к календарю региона;
+     * в {@code GET /calculate} можно передать и заголовком {@code X-Tenant-Id}
+     */
+    String tenant;
+
     @AssertTrue(message = "Both start date and end date must be provided, and end date must be later than or equal to start date")
     private boolean isDatesValid() {
         if (startDate == null && endDate == null) {
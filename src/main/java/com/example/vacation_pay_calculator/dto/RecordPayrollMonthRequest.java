@@ -0,0 +1,36 @@
+package com.example.vacation_pay_calculator.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Builder
+@Jacksonized
+@Value
+@AllArgsConstructor(access = AccessLevel.PUBLIC)
+public class RecordPayrollMonthRequest {
+
+    @NotNull(message = "The accrual month must be provided")
+    YearMonth month;
+
+    /**
+     * Начисления за месяц, учитываемые при расчёте среднего заработка (без выплат за исключаемые периоды)
+     */
+    @NotNull(message = "The earnings must be provided")
+    @PositiveOrZero(message = "The earnings should not be negative")
+    BigDecimal earnings;
+
+    /**
+     * Календарные дни исключаемых периодов: больничный, отпуск, простой и т.п.
+     */
+    @Min(value = 0, message = "The number of excluded days should not be negative")
+    Integer excludedDays;
+}
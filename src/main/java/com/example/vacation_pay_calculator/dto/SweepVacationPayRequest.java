@@ -0,0 +1,67 @@
+package com.example.vacation_pay_calculator.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+
+/**
+ * Отпуск одной длительности для каждой даты начала из окна [from, to]
+ */
+@Builder
+@Value
+@AllArgsConstructor(access = AccessLevel.PUBLIC)
+public class SweepVacationPayRequest {
+
+    @NotNull(message = "The average salary must be provided")
+    @Positive(message = "The average salary should be a positive number")
+    Double averageSalary;
+
+    /**
+     * Длительность отпуска в календарных днях, включая день начала
+     */
+    @NotNull(message = "The number of vacation days must be provided")
+    @Min(value = 1, message = "The number of vacation days must be at least 1")
+    Integer vacationDays;
+
+    /**
+     * Первая дата начала отпуска в окне
+     */
+    @NotNull(message = "The first start date must be provided")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate from;
+
+    /**
+     * Последняя дата начала отпуска в окне, включительно
+     */
+    @NotNull(message = "The last start date must be provided")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate to;
+
+    /**
+     * Регион производственного календаря; если не задан — регион по умолчанию
+     */
+    String region;
+
+    /**
+     * Правило подсчёта оплачиваемых дней; если не задано — правило по умолчанию
+     */
+    String paidDaysPolicy;
+
+    /**
+     * Организация-арендатор, чьи корпоративные нерабочие дни добавляются к календарю региона
+     */
+    String tenant;
+
+    @AssertTrue(message = "The last start date must be later than or equal to the first start date")
+    private boolean isWindowValid() {
+        return from == null || to == null || !to.isBefore(from);
+    }
+}
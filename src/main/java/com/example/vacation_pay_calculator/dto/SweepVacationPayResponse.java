@@ -0,0 +1,25 @@
+package com.example.vacation_pay_calculator.dto;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Value
+public class SweepVacationPayResponse {
+
+    /**
+     * По одному результату на каждую дату начала окна, по возрастанию даты
+     */
+    List<Result> results;
+
+    @Value
+    public static class Result {
+
+        LocalDate startDate;
+        LocalDate endDate;
+        long paidDays;
+        BigDecimal vacationPay;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.vacation_pay_calculator.metrics;
+
+import com.example.vacation_pay_calculator.controller.advice.ErrorType;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Метрики расчёта отпускных. Счётчики регистрируются заранее,
+ * чтобы на горячем пути не было поиска по реестру.
+ */
+@Component
+public class CalculationMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter daysModeRequests;
+    private final Counter dateRangeModeRequests;
+    private final DistributionSummary rangeLength;
+    private final Counter holidayLookups;
+    private final Counter singleFlightExecuted;
+    private final Counter singleFlightCoalesced;
+    private final Map<String, Counter> validationFailures = new ConcurrentHashMap<>();
+    private final Map<ErrorType, Counter> errors = new EnumMap<>(ErrorType.class);
+
+    public CalculationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.daysModeRequests = modeCounter("days");
+        this.dateRangeModeRequests = modeCounter("date-range");
+        this.rangeLength = DistributionSummary.builder("vacation.calculation.range.length")
+                .description("Length of the vacation period passed to calculatePaidDays")
+                .baseUnit("days")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(36_600.0)
+                .register(registry);
+        this.holidayLookups = Counter.builder("vacation.holiday.lookups")
+                .description("Holiday calendar lookups")
+                .register(registry);
+        this.singleFlightExecuted = singleFlightCounter("executed");
+        this.singleFlightCoalesced = singleFlightCounter("coalesced");
+        for (ErrorType type : ErrorType.values()) {
+            errors.put(type, Counter.builder("vacation.errors")
+                    .description("Error responses by error type")
+                    .tag("type", type.getTag())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Запрос к расчёту: по датам — с длиной периода, иначе по дням. Записывается во внешнем слое,
+     * до кэша результатов, поэтому попадания в кэш тоже считаются.
+     */
+    public void recordRequest(CalculateVacationPayRequest request) {
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
+        if (start == null || end == null) {
+            daysModeRequests.increment();
+            return;
+        }
+
+        dateRangeModeRequests.increment();
+        if (!end.isBefore(start)) {
+            rangeLength.record(ChronoUnit.DAYS.between(start, end) + 1);
+        }
+    }
+
+    public void recordHolidayLookup() {
+        holidayLookups.increment();
+    }
+
+    /**
+     * Расчёт выполнен, потому что такого же расчёта в этот момент не было
+     */
+    public void recordSingleFlightExecuted() {
+        singleFlightExecuted.increment();
+    }
+
+    /**
+     * Запрос дождался результата такого же расчёта, начатого другим потоком
+     */
+    public void recordSingleFlightCoalesced() {
+        singleFlightCoalesced.increment();
+    }
+
+    public void recordValidationFailure(String field) {
+        validationFailures.computeIfAbsent(field, key -> Counter.builder("vacation.validation.failures")
+                .description("Request validation failures by field")
+                .tag("field", key)
+                .register(registry)).increment();
+    }
+
+    public void recordError(ErrorType type) {
+        errors.get(type).increment();
+    }
+
+    private Counter singleFlightCounter(String outcome) {
+        return Counter.builder("vacation.singleflight.calls")
+                .description("Calculations executed versus joined to an identical calculation in progress")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Counter modeCounter(String mode) {
+        return Counter.builder("vacation.calculation.requests")
+                .description("Vacation pay calculations by mode")
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
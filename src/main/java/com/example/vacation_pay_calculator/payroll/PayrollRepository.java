@@ -0,0 +1,102 @@
+package com.example.vacation_pay_calculator.payroll;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Хранилище начислений и накопленных сумм за 12 месяцев (таблицы {@code payroll_month} и {@code payroll_aggregate}).
+ * Месяц хранится датой его первого дня.
+ */
+@Repository
+public class PayrollRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PayrollRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Блокирует накопленные суммы сотрудника до конца транзакции, создавая пустую запись при первом начислении
+     */
+    public PayrollTotals lockAggregate(String employeeId) {
+        List<PayrollTotals> found = selectAggregateForUpdate(employeeId);
+        if (!found.isEmpty()) {
+            return found.get(0);
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO payroll_aggregate (employee_id, last_month, earnings_kopecks, counted_days) "
+                    + "VALUES (?, NULL, 0, 0)", employeeId);
+        } catch (DuplicateKeyException ex) {
+            // запись создала параллельная транзакция
+        }
+
+        return selectAggregateForUpdate(employeeId).get(0);
+    }
+
+    /**
+     * @return накопленные суммы либо {@code null}, если начислений у сотрудника нет
+     */
+    public PayrollTotals findAggregate(String employeeId) {
+        List<PayrollTotals> found = jdbcTemplate.query("SELECT last_month, earnings_kopecks, counted_days "
+                + "FROM payroll_aggregate WHERE employee_id = ?", PayrollRepository::mapTotals, employeeId);
+        return found.isEmpty() || found.get(0).getLastMonth() == null ? null : found.get(0);
+    }
+
+    public void saveAggregate(String employeeId, PayrollTotals totals) {
+        jdbcTemplate.update("UPDATE payroll_aggregate SET last_month = ?, earnings_kopecks = ?, counted_days = ? "
+                        + "WHERE employee_id = ?",
+                toDate(totals.getLastMonth()), totals.getEarningsKopecks(), totals.getCountedDays(), employeeId);
+    }
+
+    /**
+     * @return начисление за месяц либо {@code null}
+     */
+    public PayrollTotals findMonth(String employeeId, YearMonth month) {
+        List<PayrollTotals> found = jdbcTemplate.query("SELECT accrual_month AS last_month, earnings_kopecks, counted_days "
+                        + "FROM payroll_month WHERE employee_id = ? AND accrual_month = ?",
+                PayrollRepository::mapTotals, employeeId, toDate(month));
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    public void saveMonth(String employeeId, YearMonth month, long earningsKopecks, int excludedDays, BigDecimal countedDays) {
+        jdbcTemplate.update("MERGE INTO payroll_month (employee_id, accrual_month, earnings_kopecks, excluded_days, counted_days) "
+                        + "KEY (employee_id, accrual_month) VALUES (?, ?, ?, ?, ?)",
+                employeeId, toDate(month), earningsKopecks, excludedDays, countedDays);
+    }
+
+    /**
+     * Суммы за месяцы [from, to]: чтение не более 12 строк по первичному ключу
+     */
+    public PayrollTotals sumMonths(String employeeId, YearMonth from, YearMonth to) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(earnings_kopecks), 0), COALESCE(SUM(counted_days), 0) "
+                        + "FROM payroll_month WHERE employee_id = ? AND accrual_month BETWEEN ? AND ?",
+                (rs, rowNum) -> new PayrollTotals(to, rs.getLong(1), rs.getBigDecimal(2)),
+                employeeId, toDate(from), toDate(to));
+    }
+
+    private List<PayrollTotals> selectAggregateForUpdate(String employeeId) {
+        return jdbcTemplate.query("SELECT last_month, earnings_kopecks, counted_days FROM payroll_aggregate "
+                + "WHERE employee_id = ? FOR UPDATE", PayrollRepository::mapTotals, employeeId);
+    }
+
+    private static PayrollTotals mapTotals(ResultSet rs, int rowNum) throws SQLException {
+        Date lastMonth = rs.getDate("last_month");
+        return new PayrollTotals(lastMonth == null ? null : YearMonth.from(lastMonth.toLocalDate()),
+                rs.getLong("earnings_kopecks"), rs.getBigDecimal("counted_days"));
+    }
+
+    private static Date toDate(YearMonth month) {
+        return month == null ? null : Date.valueOf(LocalDate.of(month.getYear(), month.getMonth(), 1));
+    }
+}
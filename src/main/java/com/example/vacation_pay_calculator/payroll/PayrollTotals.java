@@ -0,0 +1,34 @@
+package com.example.vacation_pay_calculator.payroll;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Сумма заработка и учитываемых дней за несколько месяцев
+ */
+@Value
+public class PayrollTotals {
+
+    public static final PayrollTotals EMPTY = new PayrollTotals(null, 0, BigDecimal.ZERO);
+
+    /**
+     * Последний месяц, вошедший в суммы; {@code null}, если начислений нет
+     */
+    YearMonth lastMonth;
+    long earningsKopecks;
+    BigDecimal countedDays;
+
+    public PayrollTotals plus(long earningsKopecks, BigDecimal countedDays) {
+        return new PayrollTotals(lastMonth, this.earningsKopecks + earningsKopecks, this.countedDays.add(countedDays));
+    }
+
+    public PayrollTotals minus(PayrollTotals other) {
+        return new PayrollTotals(lastMonth, earningsKopecks - other.earningsKopecks, countedDays.subtract(other.countedDays));
+    }
+
+    public PayrollTotals withLastMonth(YearMonth lastMonth) {
+        return new PayrollTotals(lastMonth, earningsKopecks, countedDays);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.vacation_pay_calculator.reactive;
+
+import com.example.vacation_pay_calculator.binding.CalculateRequestBinder;
+import com.example.vacation_pay_calculator.controller.advice.ErrorResponse;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Неблокирующий {@code GET /calculate}: тот же контракт, что у
+ * {@link com.example.vacation_pay_calculator.controller.VacationPayCalculatorController}.
+ * Сервис расчёта блокирующий: средний заработок по {@code employeeId} читается из истории начислений через JDBC,
+ * а одинаковые одновременные расчёты ждут друг друга. Поэтому разбор и проверка запроса идут в event loop,
+ * а сам расчёт выносится на {@link Schedulers#boundedElastic()}.
+ */
+public class ReactiveCalculateHandler {
+
+    private final VacationPayCalculatorService vacationPayCalculatorService;
+    private final CalculateRequestBinder binder;
+    private final CalculationMetrics metrics;
+
+    public ReactiveCalculateHandler(VacationPayCalculatorService vacationPayCalculatorService,
+                                    CalculateRequestBinder binder,
+                                    CalculationMetrics metrics) {
+        this.vacationPayCalculatorService = vacationPayCalculatorService;
+        this.binder = binder;
+        this.metrics = metrics;
+    }
+
+    public Mono<ServerResponse> calculate(ServerRequest serverRequest) {
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+
+        CalculateVacationPayRequest request = binder.bind(
+                name -> serverRequest.queryParam(name).orElseGet(() -> CalculateRequestBinder.TENANT_PARAMETER.equals(name)
+                        ? serverRequest.headers().firstHeader(CalculateRequestBinder.TENANT_HEADER) : null),
+                fieldErrors);
+        binder.validate(request, fieldErrors);
+
+        if (!fieldErrors.isEmpty()) {
+            fieldErrors.keySet().forEach(metrics::recordValidationFailure);
+            return error(ErrorResponse.validationFailed(fieldErrors));
+        }
+
+        return Mono.fromCallable(() -> vacationPayCalculatorService.calculate(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::ok)
+                .onErrorResume(IllegalArgumentException.class, this::invalidInput)
+                .onErrorResume(this::unexpected);
+    }
+
+    private Mono<ServerResponse> ok(CalculateVacationPayResponse response) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(response);
+    }
+
+    private Mono<ServerResponse> invalidInput(IllegalArgumentException ex) {
+        return error(ErrorResponse.invalidInput(ex.getMessage()));
+    }
+
+    /**
+     * Как {@code GlobalExceptionHandler.handleGeneralException}: обёрнутый {@link IllegalArgumentException} —
+     * ошибка входных данных, остальное — внутренняя ошибка без текста исключения
+     */
+    private Mono<ServerResponse> unexpected(Throwable ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof IllegalArgumentException) {
+            return error(ErrorResponse.invalidInput(cause.getMessage()));
+        }
+        return error(ErrorResponse.internalError());
+    }
+
+    private Mono<ServerResponse> error(ErrorResponse errorResponse) {
+        metrics.recordError(errorResponse.getType());
+        return ServerResponse.status(errorResponse.getType().getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(errorResponse.toJson());
+    }
+}
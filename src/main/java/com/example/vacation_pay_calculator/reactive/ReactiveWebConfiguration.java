@@ -0,0 +1,40 @@
+package com.example.vacation_pay_calculator.reactive;
+
+import com.example.vacation_pay_calculator.binding.CalculateRequestBinder;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Неблокирующий режим (профиль {@code reactive}): функциональный endpoint WebFlux на Netty
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfiguration {
+
+    /**
+     * Tomcat тоже есть в classpath и выбирался бы первым; явная фабрика закрепляет Netty
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public ReactiveCalculateHandler reactiveCalculateHandler(VacationPayCalculatorService vacationPayCalculatorService,
+                                                             CalculationMetrics metrics) {
+        return new ReactiveCalculateHandler(vacationPayCalculatorService, new CalculateRequestBinder(), metrics);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> calculateRoute(ReactiveCalculateHandler handler) {
+        return RouterFunctions.route(RequestPredicates.GET("/calculate"), handler::calculate);
+    }
+}
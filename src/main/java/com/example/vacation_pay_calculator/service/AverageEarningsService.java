@@ -0,0 +1,27 @@
+package com.example.vacation_pay_calculator.service;
+
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Средний заработок по истории начислений за 12 календарных месяцев
+ */
+public interface AverageEarningsService {
+
+    /**
+     * Сохраняет (или исправляет) начисление за месяц и обновляет накопленные суммы сотрудника
+     *
+     * @param excludedDays календарные дни исключаемых периодов в этом месяце
+     */
+    void recordMonth(String employeeId, YearMonth month, BigDecimal earnings, int excludedDays);
+
+    /**
+     * Средний заработок за 12 месяцев, предшествующих месяцу начала отпуска
+     *
+     * @param vacationMonth месяц начала отпуска; {@code null} — последние 12 месяцев истории
+     * @throws IllegalArgumentException если начислений за период нет
+     */
+    AverageEarnings average(String employeeId, YearMonth vacationMonth);
+}
@@ -1,7 +1,42 @@
 package com.example.vacation_pay_calculator.service;
 
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+
 import java.time.LocalDate;
 
 public interface HolidayService {
     boolean isHoliday(LocalDate date);
+
+    /**
+     * Количество нерабочих праздничных дней в периоде [start, end] включительно
+     */
+    long countHolidays(LocalDate start, LocalDate end);
+
+    /**
+     * То же, что {@link #countHolidays(LocalDate, LocalDate)}, по календарю указанного региона
+     * с корпоративными нерабочими днями арендатора
+     *
+     * @param tenant идентификатор арендатора; {@code null} — только календарь региона
+     * @param region идентификатор региона; {@code null} — регион по умолчанию
+     */
+    long countHolidays(String tenant, String region, LocalDate start, LocalDate end);
+
+    /**
+     * Количество рабочих дней графика в периоде [start, end] включительно по календарю указанного региона
+     * с корпоративными нерабочими днями арендатора
+     *
+     * @param tenant идентификатор арендатора; {@code null} — только календарь региона
+     * @param region идентификатор региона; {@code null} — регион по умолчанию
+     */
+    long countWorkingDays(String tenant, String region, WorkSchedule schedule, LocalDate start, LocalDate end);
+
+    /**
+     * Календарь региона с корпоративными нерабочими днями арендатора для прохода по множеству дней:
+     * выбирается один раз, поэтому все дни считаются по одной версии календаря, даже если его перезагрузят
+     *
+     * @param tenant идентификатор арендатора; {@code null} — только календарь региона
+     * @param region идентификатор региона; {@code null} — регион по умолчанию
+     */
+    ProductionCalendar calendar(String tenant, String region);
 }
@@ -0,0 +1,18 @@
+package com.example.vacation_pay_calculator.service;
+
+/**
+ * Ожидаемая ошибка входных данных расчёта. Стек не собирается: исключение описывает запрос,
+ * а не сбой в коде, и при потоке неверных запросов заполнение стека было бы основной ценой ответа.
+ * Наследует {@link IllegalArgumentException}, поэтому существующие обработчики его перехватывают.
+ */
+public class InvalidInputException extends IllegalArgumentException {
+
+    public InvalidInputException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
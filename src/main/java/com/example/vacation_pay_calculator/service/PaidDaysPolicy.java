@@ -0,0 +1,66 @@
+package com.example.vacation_pay_calculator.service;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+
+import java.time.LocalDate;
+import java.util.function.LongPredicate;
+
+/**
+ * Правило подсчёта оплачиваемых дней отпуска в периоде
+ */
+public interface PaidDaysPolicy {
+
+    /**
+     * Имя правила, по которому его выбирают в запросе ({@code paidDaysPolicy})
+     */
+    String getName();
+
+    /**
+     * Количество оплачиваемых дней в периоде [start, end] включительно
+     *
+     * @param tenant арендатор, чьи корпоративные нерабочие дни учитываются; {@code null} — только календарь региона
+     * @param region регион производственного календаря; {@code null} — регион по умолчанию
+     */
+    long paidDays(String tenant, String region, LocalDate start, LocalDate end);
+
+    /**
+     * То же, что {@link #paidDays(String, String, LocalDate, LocalDate)}, по уже выбранному календарю
+     */
+    long paidDays(ProductionCalendar calendar, long startEpochDay, long endEpochDay);
+
+    /**
+     * Оплачиваемый ли эпохальный день по календарю; сумма по периоду совпадает
+     * с {@link #paidDays(ProductionCalendar, long, long)}
+     */
+    LongPredicate paidDay(ProductionCalendar calendar);
+
+    /**
+     * Оплачиваемые дни для {@code starts} периодов по {@code duration} календарных дней,
+     * начинающихся с {@code firstStart} с шагом в день. Первый период считается целиком,
+     * дальше окно сдвигается: выбывший день вычитается, вошедший прибавляется.
+     * Все периоды считаются по одному календарю, см. {@link HolidayService#calendar(String, String)}.
+     *
+     * @return {@code result[i]} — оплачиваемые дни периода, начинающегося через {@code i} дней после {@code firstStart}
+     */
+    default long[] paidDaysSweep(ProductionCalendar calendar, LocalDate firstStart, int starts, int duration) {
+        long[] result = new long[starts];
+        if (starts == 0) {
+            return result;
+        }
+
+        LongPredicate paidDay = paidDay(calendar);
+        long leaving = firstStart.toEpochDay();
+        long paidDays = paidDays(calendar, leaving, leaving + duration - 1);
+        result[0] = paidDays;
+        for (int i = 1; i < starts; i++, leaving++) {
+            if (paidDay.test(leaving)) {
+                paidDays--;
+            }
+            if (paidDay.test(leaving + duration)) {
+                paidDays++;
+            }
+            result[i] = paidDays;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.vacation_pay_calculator.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Денежная арифметика расчёта отпускных:
+ * дневная ставка = средняя зарплата / 29.3 (10 знаков, HALF_UP),
+ * отпускные = дневная ставка × оплачиваемые дни (до копеек, HALF_UP)
+ */
+public interface PayCalculationEngine {
+
+    /**
+     * Сумма отпускных в рублях с двумя знаками после запятой
+     */
+    BigDecimal vacationPay(double averageSalary, long paidDays);
+
+    /**
+     * Сумма отпускных в копейках
+     */
+    long vacationPayKopecks(double averageSalary, long paidDays);
+}
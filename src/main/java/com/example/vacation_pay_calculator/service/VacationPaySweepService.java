@@ -0,0 +1,12 @@
+package com.example.vacation_pay_calculator.service;
+
+import com.example.vacation_pay_calculator.dto.SweepVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayResponse;
+
+/**
+ * Отпускные для каждой даты начала из окна за один вызов («что, если начать отпуск в этот день»)
+ */
+public interface VacationPaySweepService {
+
+    SweepVacationPayResponse sweep(SweepVacationPayRequest request);
+}
@@ -0,0 +1,114 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
+import com.example.vacation_pay_calculator.payroll.PayrollRepository;
+import com.example.vacation_pay_calculator.payroll.PayrollTotals;
+import com.example.vacation_pay_calculator.service.AverageEarningsService;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+/**
+ * Средний заработок по правилам постановления № 922: начисления за 12 месяцев делятся на сумму учитываемых дней
+ * (29.3 за полный месяц, 29.3 / дни месяца × отработанные календарные дни — за месяц с исключаемыми периодами).
+ * <p>
+ * Для каждого сотрудника хранятся суммы за 12 месяцев, заканчивающихся последним начисленным месяцем.
+ * Новый месяц сдвигает окно (вычитаются выбывшие месяцы, прибавляется новый), исправление месяца внутри окна
+ * прибавляет разницу — поэтому запрос среднего за последние 12 месяцев читает одну строку.
+ */
+@Service
+public class AverageEarningsServiceImpl implements AverageEarningsService {
+
+    private static final BigDecimal DAYS_PER_MONTH = new BigDecimal("29.3");
+    private static final int DAYS_SCALE = 6;
+    private static final int WINDOW_MONTHS = 12;
+
+    private final PayrollRepository payrollRepository;
+
+    public AverageEarningsServiceImpl(PayrollRepository payrollRepository) {
+        this.payrollRepository = payrollRepository;
+    }
+
+    @Override
+    @Transactional
+    public void recordMonth(String employeeId, YearMonth month, BigDecimal earnings, int excludedDays) {
+        if (employeeId == null || employeeId.isBlank()) {
+            throw new InvalidInputException("The employee id should not be blank");
+        }
+
+        if (earnings == null || earnings.signum() < 0) {
+            throw new InvalidInputException("The earnings should not be negative");
+        }
+
+        if (excludedDays < 0 || excludedDays > month.lengthOfMonth()) {
+            throw new InvalidInputException("The number of excluded days must be between 0 and " + month.lengthOfMonth());
+        }
+
+        long earningsKopecks = earnings.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+        BigDecimal countedDays = countedDays(month, excludedDays);
+
+        PayrollTotals aggregate = payrollRepository.lockAggregate(employeeId);
+        PayrollTotals previous = payrollRepository.findMonth(employeeId, month);
+        payrollRepository.saveMonth(employeeId, month, earningsKopecks, excludedDays, countedDays);
+
+        YearMonth last = aggregate.getLastMonth();
+        PayrollTotals updated;
+        if (last == null || month.minusMonths(WINDOW_MONTHS - 1).isAfter(last)) {
+            // Истории нет или новое окно не пересекается со старым
+            updated = payrollRepository.sumMonths(employeeId, month.minusMonths(WINDOW_MONTHS - 1), month);
+        } else if (month.isAfter(last)) {
+            // Между last и month начислений нет: выбывают месяцы [last - 11, month - 12]
+            PayrollTotals leaving = payrollRepository.sumMonths(employeeId,
+                    last.minusMonths(WINDOW_MONTHS - 1), month.minusMonths(WINDOW_MONTHS));
+            updated = aggregate.minus(leaving).plus(earningsKopecks, countedDays).withLastMonth(month);
+        } else if (!month.isBefore(last.minusMonths(WINDOW_MONTHS - 1))) {
+            // Исправление месяца внутри окна
+            PayrollTotals replaced = previous != null ? previous : PayrollTotals.EMPTY;
+            updated = aggregate.minus(replaced).plus(earningsKopecks, countedDays).withLastMonth(last);
+        } else {
+            // Месяц старше окна на суммы не влияет
+            return;
+        }
+
+        payrollRepository.saveAggregate(employeeId, updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AverageEarnings average(String employeeId, YearMonth vacationMonth) {
+        PayrollTotals aggregate = payrollRepository.findAggregate(employeeId);
+        if (aggregate == null) {
+            throw new InvalidInputException("No payroll history for employee: " + employeeId);
+        }
+
+        YearMonth to = vacationMonth != null ? vacationMonth.minusMonths(1) : aggregate.getLastMonth();
+        YearMonth from = to.minusMonths(WINDOW_MONTHS - 1);
+        PayrollTotals totals = to.equals(aggregate.getLastMonth())
+                ? aggregate
+                : payrollRepository.sumMonths(employeeId, from, to);
+
+        if (totals.getEarningsKopecks() <= 0 || totals.getCountedDays().signum() <= 0) {
+            throw new InvalidInputException(String.format(
+                    "No earnings between %s and %s for employee: %s", from, to, employeeId));
+        }
+
+        BigDecimal earnings = BigDecimal.valueOf(totals.getEarningsKopecks(), 2);
+        BigDecimal averageDaily = earnings.divide(totals.getCountedDays(), 2, RoundingMode.HALF_UP);
+
+        return new AverageEarnings(from, to, earnings, totals.getCountedDays(), averageDaily,
+                averageDaily.multiply(DAYS_PER_MONTH));
+    }
+
+    static BigDecimal countedDays(YearMonth month, int excludedDays) {
+        if (excludedDays == 0) {
+            return DAYS_PER_MONTH.setScale(DAYS_SCALE);
+        }
+
+        return DAYS_PER_MONTH.multiply(BigDecimal.valueOf(month.lengthOfMonth() - excludedDays))
+                .divide(BigDecimal.valueOf(month.lengthOfMonth()), DAYS_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Эталонный расчёт на {@link BigDecimal}
+ */
+@Component
+@ConditionalOnProperty(name = "vacation.calculation.engine", havingValue = "big-decimal", matchIfMissing = true)
+public class BigDecimalPayCalculationEngine implements PayCalculationEngine {
+    private static final BigDecimal AVERAGE_DAYS_PER_MONTH = BigDecimal.valueOf(29.3);
+
+    @Override
+    public BigDecimal vacationPay(double averageSalary, long paidDays) {
+        BigDecimal salary = BigDecimal.valueOf(averageSalary);
+        BigDecimal dailyRate = salary.divide(AVERAGE_DAYS_PER_MONTH, 10, RoundingMode.HALF_UP);
+
+        return dailyRate
+                .multiply(BigDecimal.valueOf(paidDays))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public long vacationPayKopecks(double averageSalary, long paidDays) {
+        return vacationPay(averageSalary, paidDays).unscaledValue().longValueExact();
+    }
+}
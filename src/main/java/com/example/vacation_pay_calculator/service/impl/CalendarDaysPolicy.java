@@ -0,0 +1,44 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.LongPredicate;
+
+/**
+ * Календарные дни периода за вычетом нерабочих праздничных дней (ст. 120 ТК РФ)
+ */
+public class CalendarDaysPolicy implements PaidDaysPolicy {
+
+    public static final String NAME = "calendar-days";
+
+    private final HolidayService holidayService;
+
+    public CalendarDaysPolicy(HolidayService holidayService) {
+        this.holidayService = holidayService;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long paidDays(String tenant, String region, LocalDate start, LocalDate end) {
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+        return totalDays - holidayService.countHolidays(tenant, region, start, end);
+    }
+
+    @Override
+    public long paidDays(ProductionCalendar calendar, long startEpochDay, long endEpochDay) {
+        return endEpochDay - startEpochDay + 1 - calendar.countHolidays(startEpochDay, endEpochDay);
+    }
+
+    @Override
+    public LongPredicate paidDay(ProductionCalendar calendar) {
+        return epochDay -> !calendar.isHoliday(epochDay);
+    }
+}
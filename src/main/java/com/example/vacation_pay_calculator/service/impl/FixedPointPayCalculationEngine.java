@@ -0,0 +1,105 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Расчёт в целых числах с фиксированной точкой, без промежуточных {@link BigDecimal}.
+ * <p>
+ * Зарплата представляется как {@code unscaled × 10^-scale} (не больше двух знаков после запятой — копейки),
+ * дневная ставка — как целое число десятимиллиардных долей рубля:
+ * {@code rate = round(unscaled × 10^(11 - scale) / 293)}, что совпадает с делением на 29.3 до 10 знаков.
+ * Округление HALF_UP выполняется в целых числах, поэтому результат побитово совпадает
+ * с {@link BigDecimalPayCalculationEngine}. Значения, которые не удаётся точно представить
+ * в {@code long} (больше двух знаков после запятой или переполнение), считаются эталонным путём.
+ */
+@Component
+@ConditionalOnProperty(name = "vacation.calculation.engine", havingValue = "fixed-point")
+public class FixedPointPayCalculationEngine implements PayCalculationEngine {
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L
+    };
+
+    /**
+     * 29.3 = 293 × 10^-1
+     */
+    private static final long AVERAGE_DAYS_PER_MONTH_TENTHS = 293;
+    private static final int RATE_SCALE = 10;
+    private static final int PAY_SCALE = 2;
+    private static final int MAX_SALARY_SCALE = 2;
+
+    /**
+     * Верхняя граница точного представления: за ней десятичная запись double может содержать больше 15 цифр
+     */
+    private static final double MAX_EXACT_SALARY = 1e12;
+
+    private static final long RATE_TO_PAY_DIVISOR = POWERS_OF_TEN[RATE_SCALE - PAY_SCALE];
+
+    private final BigDecimalPayCalculationEngine fallback = new BigDecimalPayCalculationEngine();
+
+    @Override
+    public BigDecimal vacationPay(double averageSalary, long paidDays) {
+        long kopecks = fixedPointKopecks(averageSalary, paidDays);
+        if (kopecks < 0) {
+            return fallback.vacationPay(averageSalary, paidDays);
+        }
+
+        return BigDecimal.valueOf(kopecks, PAY_SCALE);
+    }
+
+    @Override
+    public long vacationPayKopecks(double averageSalary, long paidDays) {
+        long kopecks = fixedPointKopecks(averageSalary, paidDays);
+        if (kopecks < 0) {
+            return fallback.vacationPayKopecks(averageSalary, paidDays);
+        }
+
+        return kopecks;
+    }
+
+    /**
+     * @return сумма в копейках либо -1, если значение нельзя посчитать точно в {@code long}
+     */
+    private static long fixedPointKopecks(double averageSalary, long paidDays) {
+        if (!(averageSalary > 0) || averageSalary >= MAX_EXACT_SALARY || paidDays < 0) {
+            return -1;
+        }
+
+        for (int scale = 0; scale <= MAX_SALARY_SCALE; scale++) {
+            long unscaled = (long) Math.rint(averageSalary * POWERS_OF_TEN[scale]);
+            if (unscaled / (double) POWERS_OF_TEN[scale] != averageSalary) {
+                continue;
+            }
+
+            long multiplier = POWERS_OF_TEN[RATE_SCALE + 1 - scale];
+            if (unscaled > Long.MAX_VALUE / multiplier) {
+                return -1;
+            }
+
+            long rate = divideHalfUp(unscaled * multiplier, AVERAGE_DAYS_PER_MONTH_TENTHS);
+
+            // rate × paidDays / 10^8 без переполнения: (q × 10^8 + r) × d = q × d × 10^8 + r × d
+            long wholeRate = rate / RATE_TO_PAY_DIVISOR;
+            long fractionRate = rate % RATE_TO_PAY_DIVISOR;
+            if (paidDays != 0 && (wholeRate > Long.MAX_VALUE / paidDays || fractionRate > Long.MAX_VALUE / paidDays)) {
+                return -1;
+            }
+
+            long kopecks = wholeRate * paidDays + divideHalfUp(fractionRate * paidDays, RATE_TO_PAY_DIVISOR);
+            return kopecks < 0 ? -1 : kopecks;
+        }
+
+        return -1;
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        return remainder >= divisor - remainder ? quotient + 1 : quotient;
+    }
+}
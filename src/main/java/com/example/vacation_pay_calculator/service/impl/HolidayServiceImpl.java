@@ -1,60 +1,57 @@
 package com.example.vacation_pay_calculator.service.impl;
 
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
 import com.example.vacation_pay_calculator.service.HolidayService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
- * Список нерабочих праздничных дней в 2026 году
- * (источник: производственный календарь на consultant.ru)
+ * Нерабочие праздничные дни по производственным календарям регионов
+ * (файлы {@code calendars/<регион>.cal}, см. {@link com.example.vacation_pay_calculator.calendar.CalendarSourceParser})
+ * с корпоративными нерабочими днями арендаторов, см. {@link TenantCalendarRegistry}
  */
 
 @Service
 public final class HolidayServiceImpl implements HolidayService {
 
-    private static final Set<LocalDate> HOLIDAYS = Collections.unmodifiableSet(
-            Stream.of(
-                    //Новогодние праздники
-                    LocalDate.of(2026, 1, 1),
-                    LocalDate.of(2026, 1, 2),
-                    LocalDate.of(2026, 1, 3),
-                    LocalDate.of(2026, 1, 4),
-                    LocalDate.of(2026, 1, 5),
-                    LocalDate.of(2026, 1, 6),
-                    LocalDate.of(2026, 1, 7),
-                    LocalDate.of(2026, 1, 8),
-                    LocalDate.of(2026, 1, 9),
+    private final TenantCalendarRegistry calendarRegistry;
+    private final CalculationMetrics metrics;
 
-                    //День защитника Отечества
-                    LocalDate.of(2026, 2, 23),
-
-                    //Международный женский день
-                    LocalDate.of(2026, 3, 9),
-
-                    //День Весны и Труда
-                    LocalDate.of(2026, 5, 1),
+    public HolidayServiceImpl(TenantCalendarRegistry calendarRegistry, CalculationMetrics metrics) {
+        this.calendarRegistry = calendarRegistry;
+        this.metrics = metrics;
+    }
 
-                    //День Победы
-                    LocalDate.of(2026, 5, 11),
+    @Override
+    public boolean isHoliday(LocalDate date) {
+        metrics.recordHolidayLookup();
+        return calendarRegistry.get(null, null).isHoliday(date.toEpochDay());
+    }
 
-                    //День России
-                    LocalDate.of(2026, 6, 12),
+    @Override
+    public long countHolidays(LocalDate start, LocalDate end) {
+        return countHolidays(null, null, start, end);
+    }
 
-                    //День народного единства
-                    LocalDate.of(2026, 11, 4),
+    @Override
+    public long countHolidays(String tenant, String region, LocalDate start, LocalDate end) {
+        metrics.recordHolidayLookup();
+        return calendarRegistry.get(tenant, region).countHolidays(start.toEpochDay(), end.toEpochDay());
+    }
 
-                    //Канун Нового года
-                    LocalDate.of(2026, 12, 31)
-            ).collect(Collectors.toSet())
-    );
+    @Override
+    public long countWorkingDays(String tenant, String region, WorkSchedule schedule, LocalDate start, LocalDate end) {
+        metrics.recordHolidayLookup();
+        return calendarRegistry.get(tenant, region).countWorkingDays(schedule, start.toEpochDay(), end.toEpochDay());
+    }
 
     @Override
-    public boolean isHoliday(LocalDate date) {
-        return HOLIDAYS.contains(date);
+    public ProductionCalendar calendar(String tenant, String region) {
+        metrics.recordHolidayLookup();
+        return calendarRegistry.get(tenant, region);
     }
 }
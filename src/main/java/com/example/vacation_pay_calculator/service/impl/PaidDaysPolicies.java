@@ -0,0 +1,60 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Правила подсчёта оплачиваемых дней по имени
+ */
+public class PaidDaysPolicies {
+
+    private final Map<String, PaidDaysPolicy> policies;
+    private final PaidDaysPolicy defaultPolicy;
+
+    public PaidDaysPolicies(List<PaidDaysPolicy> policies, String defaultPolicy) {
+        Map<String, PaidDaysPolicy> byName = new HashMap<>();
+        for (PaidDaysPolicy policy : policies) {
+            if (byName.put(policy.getName(), policy) != null) {
+                throw new IllegalStateException("Duplicate paid days policy '" + policy.getName() + "'");
+            }
+        }
+
+        this.policies = Map.copyOf(byName);
+        this.defaultPolicy = this.policies.get(defaultPolicy);
+        if (this.defaultPolicy == null) {
+            throw new IllegalStateException("No paid days policy found for the default '" + defaultPolicy + "'");
+        }
+    }
+
+    /**
+     * @param name имя правила; {@code null} — правило по умолчанию
+     */
+    public PaidDaysPolicy get(String name) {
+        if (name == null) {
+            return defaultPolicy;
+        }
+
+        PaidDaysPolicy policy = policies.get(name);
+        if (policy == null) {
+            throw new InvalidInputException("Unknown paid days policy: " + name);
+        }
+
+        return policy;
+    }
+
+    /**
+     * Имя правила, которое применяется к запросу без {@code paidDaysPolicy}
+     */
+    public String getDefaultName() {
+        return defaultPolicy.getName();
+    }
+
+    public Set<String> getNames() {
+        return policies.keySet();
+    }
+}
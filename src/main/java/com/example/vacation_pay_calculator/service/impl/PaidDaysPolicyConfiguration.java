@@ -0,0 +1,53 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Правила подсчёта оплачиваемых дней: {@code calendar-days}, {@code working-days}, {@code six-day-week}
+ * и графики из {@code vacation.paid-days.schedules} вида {@code <имя>:<шаблон>[:<дата привязки>[:holidays]]}
+ * через запятую, например {@code shift-2x2:WW--:2026-01-01,part-time:WWW----}.
+ * Суффикс {@code holidays} исключает праздники из рабочих дней графика.
+ */
+@Configuration
+public class PaidDaysPolicyConfiguration {
+
+    private static final String EXCLUDE_HOLIDAYS = "holidays";
+
+    @Bean
+    public PaidDaysPolicies paidDaysPolicies(HolidayService holidayService,
+                                             @Value("${vacation.paid-days.schedules:}") List<String> schedules,
+                                             @Value("${vacation.paid-days.default-policy:calendar-days}") String defaultPolicy) {
+        List<PaidDaysPolicy> policies = new ArrayList<>();
+        policies.add(new CalendarDaysPolicy(holidayService));
+        policies.add(new WorkSchedulePolicy("working-days", WorkSchedule.fiveDayWeek(), holidayService));
+        policies.add(new WorkSchedulePolicy("six-day-week", WorkSchedule.sixDayWeek(), holidayService));
+        for (String definition : schedules) {
+            if (!definition.isBlank()) {
+                WorkSchedule schedule = parseSchedule(definition.trim());
+                policies.add(new WorkSchedulePolicy(schedule.getName(), schedule, holidayService));
+            }
+        }
+
+        return new PaidDaysPolicies(policies, defaultPolicy);
+    }
+
+    static WorkSchedule parseSchedule(String definition) {
+        String[] parts = definition.split(":");
+        if (parts.length < 2 || parts.length > 4 || (parts.length == 4 && !EXCLUDE_HOLIDAYS.equals(parts[3]))) {
+            throw new IllegalStateException("Malformed work schedule '" + definition
+                    + "', expected <name>:<pattern>[:<anchor date>[:" + EXCLUDE_HOLIDAYS + "]]");
+        }
+
+        LocalDate anchor = parts.length >= 3 && !parts[2].isEmpty() ? LocalDate.parse(parts[2]) : null;
+        return WorkSchedule.cyclic(parts[0], parts[1], anchor, parts.length == 4);
+    }
+}
@@ -2,80 +2,83 @@ package com.example.vacation_pay_calculator.service.impl;
 
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
-import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.AverageEarningsService;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
 import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.YearMonth;
 
 @Service
 public class VacationPayCalculatorServiceImpl implements VacationPayCalculatorService {
-    private static final BigDecimal AVERAGE_DAYS_PER_MONTH = BigDecimal.valueOf(29.3);
 
-    private final HolidayService holidayService;
-
-    public VacationPayCalculatorServiceImpl(HolidayService holidayService) {
-        this.holidayService = holidayService;
+    private final PayCalculationEngine payCalculationEngine;
+    private final PaidDaysPolicies paidDaysPolicies;
+    private final AverageEarningsService averageEarningsService;
+
+    /**
+     * @param averageEarningsService нужен только запросам с {@code employeeId}; {@code @Lazy} откладывает
+     *                               подключение к базе начислений до первого такого запроса
+     */
+    public VacationPayCalculatorServiceImpl(PayCalculationEngine payCalculationEngine,
+                                            PaidDaysPolicies paidDaysPolicies,
+                                            @Lazy AverageEarningsService averageEarningsService) {
+        this.payCalculationEngine = payCalculationEngine;
+        this.paidDaysPolicies = paidDaysPolicies;
+        this.averageEarningsService = averageEarningsService;
     }
 
     @Override
     public CalculateVacationPayResponse calculate(CalculateVacationPayRequest request) {
 
-        if (request.getAverageSalary() == null) {
-            throw new IllegalArgumentException("The average salary should not be null");
-        }
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate();
 
-        if (request.getAverageSalary() <= 0.0) {
-            throw new IllegalArgumentException("The average salary should be more than zero");
+        Double averageSalary = request.getAverageSalary();
+        if (averageSalary == null && request.getEmployeeId() != null) {
+            averageSalary = averageEarningsService.average(request.getEmployeeId(),
+                    start != null ? YearMonth.from(start) : null).getAverageMonthly().doubleValue();
         }
 
-        BigDecimal salary = BigDecimal.valueOf(request.getAverageSalary());
-        BigDecimal dailyRate = salary.divide(AVERAGE_DAYS_PER_MONTH, 10, RoundingMode.HALF_UP);
+        if (averageSalary == null) {
+            throw new InvalidInputException("The average salary should not be null");
+        }
 
-        LocalDate start = request.getStartDate();
-        LocalDate end = request.getEndDate();
+        if (averageSalary <= 0.0) {
+            throw new InvalidInputException("The average salary should be more than zero");
+        }
 
         long paidDays;
 
         if (start != null && end != null) {
             if (end.isBefore(start)) {
-                throw new IllegalArgumentException("The end date must be later than or equal to the start date");
+                throw new InvalidInputException("The end date must be later than or equal to the start date");
             }
 
-            paidDays = calculatePaidDays(start, end);
+            paidDays = calculatePaidDays(request.getTenant(), request.getRegion(), request.getPaidDaysPolicy(), start, end);
         } else {
             int vacationDays = request.getVacationDays();
 
             if (vacationDays < 1) {
-                throw new IllegalArgumentException("The number of vacation days must be at least 1");
+                throw new InvalidInputException("The number of vacation days must be at least 1");
             }
 
             paidDays = vacationDays;
         }
 
-        BigDecimal vacationPay = dailyRate
-                .multiply(BigDecimal.valueOf(paidDays))
-                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal vacationPay = payCalculationEngine.vacationPay(averageSalary, paidDays);
 
         return new CalculateVacationPayResponse(vacationPay);
     }
 
-    private long calculatePaidDays(LocalDate start, LocalDate end) {
-        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
-
-        long holidaysCount = 0;
-        LocalDate current = start;
-        while (!current.isAfter(end)) {
-            if (holidayService.isHoliday(current)) {
-                holidaysCount++;
-            }
-
-            current = current.plusDays(1);
-        }
+    private long calculatePaidDays(String tenant, String region, String policy, LocalDate start, LocalDate end) {
+        PaidDaysPolicy paidDaysPolicy = paidDaysPolicies.get(policy);
 
-        return totalDays - holidaysCount;
+        return paidDaysPolicy.paidDays(tenant, region, start, end);
     }
 }
@@ -0,0 +1,82 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayResponse;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
+import com.example.vacation_pay_calculator.service.VacationPaySweepService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Оплачиваемые дни всех периодов окна считаются одним проходом скользящего окна
+ * ({@link com.example.vacation_pay_calculator.service.PaidDaysPolicy#paidDaysSweep}),
+ * поэтому работа пропорциональна ширине окна, а не ширине × длительности. Календарь выбирается один раз на запрос,
+ * и первый период, и сдвиги окна считаются по нему.
+ * Суммы одинаковы для одинакового числа оплачиваемых дней и считаются один раз на каждое такое число —
+ * в {@link BigDecimal}, как и в {@code GET /calculate}, поэтому сумма вне диапазона {@code long} в копейках не ошибка.
+ */
+@Service
+public class VacationPaySweepServiceImpl implements VacationPaySweepService {
+
+    private final PayCalculationEngine payCalculationEngine;
+    private final PaidDaysPolicies paidDaysPolicies;
+    private final HolidayService holidayService;
+    private final int maxStartDates;
+
+    public VacationPaySweepServiceImpl(PayCalculationEngine payCalculationEngine,
+                                       PaidDaysPolicies paidDaysPolicies,
+                                       HolidayService holidayService,
+                                       @Value("${vacation.sweep.max-start-dates:366}") int maxStartDates) {
+        this.payCalculationEngine = payCalculationEngine;
+        this.paidDaysPolicies = paidDaysPolicies;
+        this.holidayService = holidayService;
+        this.maxStartDates = maxStartDates;
+    }
+
+    @Override
+    public SweepVacationPayResponse sweep(SweepVacationPayRequest request) {
+        LocalDate from = request.getFrom();
+        int duration = request.getVacationDays();
+        long starts = ChronoUnit.DAYS.between(from, request.getTo()) + 1;
+        if (starts > maxStartDates) {
+            throw new InvalidInputException("The start date window must not exceed " + maxStartDates + " days");
+        }
+
+        PaidDaysPolicy policy = paidDaysPolicies.get(request.getPaidDaysPolicy());
+        ProductionCalendar calendar = holidayService.calendar(request.getTenant(), request.getRegion());
+        long[] paidDays = policy.paidDaysSweep(calendar, from, (int) starts, duration);
+
+        // Соседние периоды отличаются не больше чем на день, поэтому разброс значений не превышает ширины окна
+        long minPaidDays = Long.MAX_VALUE;
+        long maxPaidDays = Long.MIN_VALUE;
+        for (long days : paidDays) {
+            minPaidDays = Math.min(minPaidDays, days);
+            maxPaidDays = Math.max(maxPaidDays, days);
+        }
+
+        BigDecimal[] payByPaidDays = new BigDecimal[(int) (maxPaidDays - minPaidDays + 1)];
+        List<SweepVacationPayResponse.Result> results = new ArrayList<>(paidDays.length);
+        for (int i = 0; i < paidDays.length; i++) {
+            long days = paidDays[i];
+            int slot = (int) (days - minPaidDays);
+            if (payByPaidDays[slot] == null) {
+                payByPaidDays[slot] = payCalculationEngine.vacationPay(request.getAverageSalary(), days);
+            }
+            LocalDate start = from.plusDays(i);
+            results.add(new SweepVacationPayResponse.Result(
+                    start, start.plusDays(duration - 1L), days, payByPaidDays[slot]));
+        }
+
+        return new SweepVacationPayResponse(results);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+
+import java.time.LocalDate;
+import java.util.function.LongPredicate;
+
+/**
+ * Оплачиваются рабочие дни графика: пятидневка, шестидневка, неполная неделя, сменный график
+ */
+public class WorkSchedulePolicy implements PaidDaysPolicy {
+
+    private final String name;
+    private final WorkSchedule schedule;
+    private final HolidayService holidayService;
+
+    public WorkSchedulePolicy(String name, WorkSchedule schedule, HolidayService holidayService) {
+        this.name = name;
+        this.schedule = schedule;
+        this.holidayService = holidayService;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long paidDays(String tenant, String region, LocalDate start, LocalDate end) {
+        return holidayService.countWorkingDays(tenant, region, schedule, start, end);
+    }
+
+    @Override
+    public long paidDays(ProductionCalendar calendar, long startEpochDay, long endEpochDay) {
+        return calendar.countWorkingDays(schedule, startEpochDay, endEpochDay);
+    }
+
+    @Override
+    public LongPredicate paidDay(ProductionCalendar calendar) {
+        return epochDay -> calendar.isWorkingDay(schedule, epochDay);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.vacation_pay_calculator.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Тренировочный запуск для архива AppCDS ({@code vacation.startup.training-run=true}):
+ * после старта выполняет типовые запросы к {@code /calculate}, чтобы загрузились классы обработки запроса
+ * и ошибок валидации, и завершает приложение. Список загруженных классов записывает JVM
+ * ({@code -XX:DumpLoadedClassList}), из него задача Gradle {@code cdsArchive} собирает архив.
+ */
+@Component
+@ConditionalOnProperty("vacation.startup.training-run")
+public class TrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainingRun.class);
+
+    private static final List<String> REQUESTS = List.of(
+            "/calculate?averageSalary=40000&vacationDays=14",
+            "/calculate?averageSalary=40000&startDate=2026-05-01&endDate=2026-05-14",
+            "/calculate?averageSalary=40000&startDate=2026-05-01&endDate=2026-05-14&paidDaysPolicy=working-days",
+            "/calculate?averageSalary=-1&vacationDays=14",
+            "/actuator/health");
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        HttpClient client = HttpClient.newHttpClient();
+
+        int exitCode = 0;
+        for (String path : REQUESTS) {
+            try {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(base.resolve(path)).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() >= 500) {
+                    log.error("Training request {} failed with status {}", path, response.statusCode());
+                    exitCode = 1;
+                }
+            } catch (IOException ex) {
+                log.error("Training request {} failed", path, ex);
+                exitCode = 1;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                exitCode = 1;
+                break;
+            }
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
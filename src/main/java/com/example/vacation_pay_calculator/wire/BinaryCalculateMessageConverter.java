@@ -0,0 +1,83 @@
+package com.example.vacation_pay_calculator.wire;
+
+import com.example.vacation_pay_calculator.controller.advice.ErrorResponse;
+import com.example.vacation_pay_calculator.controller.advice.ErrorType;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServerHttpResponse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * {@link BinaryWireFormat} для одиночных вызовов: читает {@link CalculateVacationPayRequest},
+ * пишет {@link CalculateVacationPayResponse} и {@link ErrorResponse}
+ */
+public class BinaryCalculateMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public BinaryCalculateMessageConverter() {
+        super(BinaryWireFormat.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CalculateVacationPayRequest.class == clazz
+                || CalculateVacationPayResponse.class == clazz
+                || ErrorResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return CalculateVacationPayRequest.class == clazz && canRead(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        InputStream body = inputMessage.getBody();
+        CalculateVacationPayRequest request;
+        try {
+            request = BinaryWireFormat.readRequest(body);
+        } catch (EOFException ex) {
+            throw new HttpMessageNotReadableException(ex.getMessage(), ex, inputMessage);
+        }
+        if (request == null) {
+            throw new HttpMessageNotReadableException("Empty request record", inputMessage);
+        }
+        if (body.read() >= 0) {
+            throw new HttpMessageNotReadableException("Expected a single request record", inputMessage);
+        }
+        return request;
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        if (body instanceof CalculateVacationPayResponse) {
+            BigDecimal vacationPay = ((CalculateVacationPayResponse) body).getVacationPay();
+            // Сумма вне диапазона записи уходит ошибкой входных данных; статус ещё не отправлен до первого байта тела
+            if (!BinaryWireFormat.isRepresentable(vacationPay) && outputMessage instanceof ServerHttpResponse) {
+                ((ServerHttpResponse) outputMessage).setStatusCode(ErrorType.INVALID_INPUT.getStatus());
+            }
+            BinaryWireFormat.writeSuccess(vacationPay, outputMessage.getBody());
+            return;
+        }
+
+        ErrorResponse error = (ErrorResponse) body;
+        if (error.getType() == ErrorType.VALIDATION_FAILED) {
+            BinaryWireFormat.writeError(BinaryWireFormat.STATUS_VALIDATION_FAILED, error.getDetails(), outputMessage.getBody());
+            return;
+        }
+
+        int status = error.getType() == ErrorType.INTERNAL_ERROR
+                ? BinaryWireFormat.STATUS_INTERNAL_ERROR
+                : BinaryWireFormat.STATUS_INVALID_INPUT;
+        BinaryWireFormat.writeError(status, Map.of("message", String.valueOf(error.getMessage())), outputMessage.getBody());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.vacation_pay_calculator.wire;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Результат расчёта, прочитанный из двоичного формата: сумма отпускных либо статус ошибки с описанием
+ */
+@Value
+public class BinaryResult {
+
+    int status;
+    BigDecimal vacationPay;
+    Map<String, String> details;
+}
@@ -0,0 +1,213 @@
+package com.example.vacation_pay_calculator.wire;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import org.springframework.http.MediaType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Компактный двоичный формат запросов и результатов расчёта для вызовов между сервисами
+ * ({@code application/x-vacation-pay}). Записи идут подряд без разделителей, все числа — little-endian.
+ * <p>
+ * Запрос: 24 байта фиксированной части и строки UTF-8 за ней
+ * <pre>
+ * double averageSalary           NaN — не задано
+ * int    vacationDays            Integer.MIN_VALUE — не задано
+ * int    startDate, int endDate  эпохальные дни; Integer.MIN_VALUE — не задано
+ * byte   длины region, paidDaysPolicy, employeeId, tenant (0 — не задано)
+ * </pre>
+ * Результат:
+ * <pre>
+ * byte   статус: 0 — успех, 1 — ошибка валидации, 2 — ошибка входных данных, 3 — повреждённый ввод, 4 — внутренняя ошибка
+ * успех:  long сумма отпускных в копейках; сумма вне диапазона long передаётся ошибкой входных данных
+ * ошибка: byte количество пар, пары (short длина + UTF-8 ключ, short длина + UTF-8 значение):
+ *         поле и сообщение для ошибки валидации, {@code message} и текст для остальных ошибок
+ * </pre>
+ */
+public final class BinaryWireFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-vacation-pay";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public static final int STATUS_OK = 0;
+    public static final int STATUS_VALIDATION_FAILED = 1;
+    public static final int STATUS_INVALID_INPUT = 2;
+    public static final int STATUS_MALFORMED_INPUT = 3;
+    public static final int STATUS_INTERNAL_ERROR = 4;
+
+    public static final String OUT_OF_RANGE_MESSAGE = "The vacation pay exceeds the binary format range";
+
+    static final int REQUEST_HEADER_BYTES = 24;
+    private static final int ABSENT = Integer.MIN_VALUE;
+    private static final int MAX_STRING_BYTES = 255;
+    private static final int MAX_DETAIL_BYTES = 0xFFFF;
+
+    private BinaryWireFormat() {
+    }
+
+    public static void writeRequest(CalculateVacationPayRequest request, OutputStream out) throws IOException {
+        byte[] region = utf8(request.getRegion(), "region");
+        byte[] policy = utf8(request.getPaidDaysPolicy(), "paidDaysPolicy");
+        byte[] employeeId = utf8(request.getEmployeeId(), "employeeId");
+        byte[] tenant = utf8(request.getTenant(), "tenant");
+
+        ByteBuffer buffer = ByteBuffer.allocate(REQUEST_HEADER_BYTES + region.length + policy.length + employeeId.length + tenant.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(request.getAverageSalary() != null ? request.getAverageSalary() : Double.NaN)
+                .putInt(request.getVacationDays() != null ? request.getVacationDays() : ABSENT)
+                .putInt(epochDay(request.getStartDate()))
+                .putInt(epochDay(request.getEndDate()))
+                .put((byte) region.length).put((byte) policy.length).put((byte) employeeId.length).put((byte) tenant.length)
+                .put(region).put(policy).put(employeeId).put(tenant);
+        out.write(buffer.array());
+    }
+
+    /**
+     * @return запрос либо {@code null}, если поток закончился ровно на границе записи
+     * @throws EOFException если поток оборвался посреди записи
+     */
+    public static CalculateVacationPayRequest readRequest(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(REQUEST_HEADER_BYTES);
+        if (header.length == 0) {
+            return null;
+        }
+        if (header.length < REQUEST_HEADER_BYTES) {
+            throw new EOFException("Truncated request record: " + header.length + " of " + REQUEST_HEADER_BYTES + " header bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+        double averageSalary = buffer.getDouble();
+        int vacationDays = buffer.getInt();
+        int startDate = buffer.getInt();
+        int endDate = buffer.getInt();
+        int regionLength = Byte.toUnsignedInt(buffer.get());
+        int policyLength = Byte.toUnsignedInt(buffer.get());
+        int employeeIdLength = Byte.toUnsignedInt(buffer.get());
+        int tenantLength = Byte.toUnsignedInt(buffer.get());
+
+        return new CalculateVacationPayRequest(
+                Double.isNaN(averageSalary) ? null : averageSalary,
+                vacationDays == ABSENT ? null : vacationDays,
+                startDate == ABSENT ? null : LocalDate.ofEpochDay(startDate),
+                endDate == ABSENT ? null : LocalDate.ofEpochDay(endDate),
+                readString(in, regionLength),
+                readString(in, policyLength),
+                readString(in, employeeIdLength),
+                readString(in, tenantLength));
+    }
+
+    /**
+     * @return помещается ли сумма в {@code long} копеек записи успеха
+     */
+    public static boolean isRepresentable(BigDecimal vacationPay) {
+        return vacationPay.movePointRight(2).toBigInteger().bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Сумму, не помещающуюся в запись успеха, пишет ошибкой {@link #STATUS_INVALID_INPUT}
+     * с сообщением {@link #OUT_OF_RANGE_MESSAGE}
+     */
+    public static void writeSuccess(BigDecimal vacationPay, OutputStream out) throws IOException {
+        if (!isRepresentable(vacationPay)) {
+            writeError(STATUS_INVALID_INPUT, Map.of("message", OUT_OF_RANGE_MESSAGE), out);
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) STATUS_OK).putLong(vacationPay.movePointRight(2).longValueExact());
+        out.write(buffer.array());
+    }
+
+    /**
+     * @param details поле → сообщение для ошибки валидации, {@code message} → текст для остальных ошибок
+     */
+    public static void writeError(int status, Map<String, String> details, OutputStream out) throws IOException {
+        int size = 2;
+        byte[][] encoded = new byte[details.size() * 2][];
+        int i = 0;
+        for (Map.Entry<String, String> detail : details.entrySet()) {
+            encoded[i] = truncatedUtf8(detail.getKey());
+            encoded[i + 1] = truncatedUtf8(detail.getValue());
+            size += 4 + encoded[i].length + encoded[i + 1].length;
+            i += 2;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) status).put((byte) details.size());
+        for (byte[] bytes : encoded) {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+        out.write(buffer.array());
+    }
+
+    /**
+     * @return результат либо {@code null}, если поток закончился ровно на границе записи
+     */
+    public static BinaryResult readResult(InputStream in) throws IOException {
+        int status = in.read();
+        if (status < 0) {
+            return null;
+        }
+
+        if (status == STATUS_OK) {
+            ByteBuffer buffer = ByteBuffer.wrap(readFully(in, Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            return new BinaryResult(status, BigDecimal.valueOf(buffer.getLong(), 2), Map.of());
+        }
+
+        int count = readFully(in, 1)[0] & 0xFF;
+        Map<String, String> details = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            details.put(readShortString(in), readShortString(in));
+        }
+        return new BinaryResult(status, null, details);
+    }
+
+    private static byte[] utf8(String value, String field) {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("The " + field + " is longer than " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    private static byte[] truncatedUtf8(String value) {
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        return bytes.length > MAX_DETAIL_BYTES ? Arrays.copyOf(bytes, MAX_DETAIL_BYTES) : bytes;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date == null ? ABSENT : Math.toIntExact(date.toEpochDay());
+    }
+
+    private static String readString(InputStream in, int length) throws IOException {
+        return length == 0 ? null : new String(readFully(in, length), StandardCharsets.UTF_8);
+    }
+
+    private static String readShortString(InputStream in) throws IOException {
+        byte[] length = readFully(in, 2);
+        return new String(readFully(in, (length[0] & 0xFF) | (length[1] & 0xFF) << 8), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Truncated record: expected " + length + " bytes but got " + bytes.length);
+        }
+        return bytes;
+    }
+}
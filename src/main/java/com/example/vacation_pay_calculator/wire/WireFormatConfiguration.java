@@ -0,0 +1,22 @@
+package com.example.vacation_pay_calculator.wire;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Двоичный формат в согласовании содержимого {@code /calculate}. Конвертер добавляется последним,
+ * поэтому при {@code Accept: *}{@code /*} ответ по-прежнему JSON.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WireFormatConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new BinaryCalculateMessageConverter());
+    }
+}
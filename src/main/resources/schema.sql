@@ -0,0 +1,17 @@
+-- Начисления по месяцам: заработок, учитываемый при расчёте среднего, и исключаемые дни
+CREATE TABLE IF NOT EXISTS payroll_month (
+    employee_id      VARCHAR(64)    NOT NULL,
+    accrual_month    DATE           NOT NULL,
+    earnings_kopecks BIGINT         NOT NULL,
+    excluded_days    INT            NOT NULL,
+    counted_days     DECIMAL(12, 6) NOT NULL,
+    PRIMARY KEY (employee_id, accrual_month)
+);
+
+-- Суммы за 12 месяцев, заканчивающихся last_month; обновляются при каждом начислении
+CREATE TABLE IF NOT EXISTS payroll_aggregate (
+    employee_id      VARCHAR(64)    NOT NULL PRIMARY KEY,
+    last_month       DATE,
+    earnings_kopecks BIGINT         NOT NULL,
+    counted_days     DECIMAL(14, 6) NOT NULL
+);
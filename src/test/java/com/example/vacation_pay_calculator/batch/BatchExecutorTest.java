@@ -0,0 +1,81 @@
+package com.example.vacation_pay_calculator.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchExecutorTest {
+
+    private final BatchExecutor executor = new BatchExecutor(4, 10, 3);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void shouldReturnResultsInInputOrder() {
+        // Given: 1000 элементов, порции по 10
+        List<Integer> input = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        List<Integer> output = new ArrayList<>();
+
+        // When
+        executor.execute(input.iterator(), item -> item * 2, output::add);
+
+        // Then
+        assertThat(output).isEqualTo(input.stream().map(item -> item * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldNotReadAheadMoreThanInFlightLimit() {
+        // Given: источник, считающий прочитанные элементы
+        AtomicInteger read = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        AtomicInteger emitted = new AtomicInteger();
+        Iterator<Integer> source = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < 10_000;
+            }
+
+            @Override
+            public Integer next() {
+                int ahead = read.incrementAndGet() - emitted.get();
+                maxAhead.accumulateAndGet(ahead, Math::max);
+                return read.get();
+            }
+        };
+
+        // When
+        executor.execute(source, item -> item, item -> emitted.incrementAndGet());
+
+        // Then: не больше 3 порций по 10 элементов в работе плюс читаемая порция
+        assertThat(emitted.get()).isEqualTo(10_000);
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(4 * 10);
+    }
+
+    @Test
+    void shouldPropagateTaskFailure() {
+        // Given
+        Iterator<Integer> source = IntStream.range(0, 100).boxed().iterator();
+
+        // When + Then
+        assertThatThrownBy(() -> executor.execute(source, item -> {
+            if (item == 57) {
+                throw new IllegalStateException("boom");
+            }
+            return item;
+        }, item -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+}
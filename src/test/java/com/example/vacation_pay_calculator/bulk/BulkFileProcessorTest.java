@@ -0,0 +1,95 @@
+package com.example.vacation_pay_calculator.bulk;
+
+import com.example.vacation_pay_calculator.batch.BatchExecutor;
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.impl.BigDecimalPayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.CalendarDaysPolicy;
+import com.example.vacation_pay_calculator.service.impl.HolidayServiceImpl;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicyConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkFileProcessorTest {
+
+    private static final String INPUT = "id,averageSalary,vacationDays,startDate,endDate,region,paidDaysPolicy\n"
+            + "1001,15000,14,,,,\n"
+            + "1002,15000.00,,2026-02-23,2026-02-27,ru,\r\n"
+            + "1003,40000,,2026-05-12,2026-05-16,,working-days\n"
+            + "1004,-15000,14,,,,\n"
+            + "1005,15000,,2026-05-16,2026-05-12\n"
+            + "1006,15000,,2026-05-12,2026-05-16,xx,\n"
+            + "1007,15000,,2026-02-30,2026-03-01\n"
+            + "1008,15 000,14\n"
+            + "1010,999999999999999,999999999\n"
+            + "\n"
+            + "1009,15000,1";
+
+    private static final String EXPECTED = "id,vacationPay,error\n"
+            + "1001,7167.24,\n"
+            + "1002,2047.78,\n"
+            + "1003,5460.75,\n"
+            + "1004,,\"The average salary should be more than zero\"\n"
+            + "1005,,\"The end date must be later than or equal to the start date\"\n"
+            + "1006,,\"Unknown calendar region: xx\"\n"
+            + "1007,,\"Invalid startDate '2026-02-30'\"\n"
+            + "1008,,\"Invalid averageSalary '15 000'\"\n"
+            + "1010,,\"The vacation pay exceeds the supported range\"\n"
+            + "1009,511.95,\n";
+
+    @TempDir
+    Path directory;
+
+    private PaidDaysPolicies policies;
+    private ProductionCalendarRegistry calendarRegistry;
+    private BatchExecutor batchExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        calendarRegistry = new ProductionCalendarRegistry(Map.of("ru", CalendarSourceParser.parse("ru",
+                new StringReader("2026 holidays 01-01..01-09 02-23 03-09 05-01 05-11\n"))), "ru");
+        policies = new PaidDaysPolicyConfiguration().paidDaysPolicies(
+                new HolidayServiceImpl(new TenantCalendarRegistry(calendarRegistry), new CalculationMetrics(new SimpleMeterRegistry())),
+                List.of(), CalendarDaysPolicy.NAME);
+        batchExecutor = new BatchExecutor(4, 2, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.destroy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 64, 262144})
+    void shouldCalculateEveryRowInInputOrder(int sliceBytes) throws IOException {
+        // Given: порции от одного байта до целого файла
+        Path input = Files.writeString(directory.resolve("employees.csv"), INPUT);
+        Path output = directory.resolve("vacation-pay.csv");
+        BulkFileProcessor processor = new BulkFileProcessor(policies, new BigDecimalPayCalculationEngine(),
+                calendarRegistry, batchExecutor, sliceBytes);
+
+        // When
+        BulkSummary summary = processor.process(input, output);
+
+        // Then: пустая строка пропускается, ошибки строк не прерывают расчёт
+        assertThat(Files.readString(output)).isEqualTo(EXPECTED);
+        assertThat(summary.getRows()).isEqualTo(10);
+        assertThat(summary.getFailedRows()).isEqualTo(6);
+    }
+}
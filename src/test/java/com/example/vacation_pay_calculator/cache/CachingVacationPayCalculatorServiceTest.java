@@ -0,0 +1,203 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.service.impl.CalendarDaysPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingVacationPayCalculatorServiceTest {
+
+    private VacationPayCalculatorService delegate;
+    private ProductionCalendarRegistry calendarRegistry;
+    private CachingVacationPayCalculatorService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        delegate = mock(VacationPayCalculatorService.class);
+        when(delegate.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+
+        calendarRegistry = new ProductionCalendarRegistry(Map.of("ru", calendar("2026 holidays 01-01..01-09\n")), "ru");
+        service = new CachingVacationPayCalculatorService(delegate, calendarRegistry, CalendarDaysPolicy.NAME, 100, Duration.ZERO);
+    }
+
+    @Test
+    void shouldReuseResultForEquivalentRequests() {
+        // Given: в режиме «по датам» количество дней и регион по умолчанию не влияют на результат
+        LocalDate start = LocalDate.of(2026, 5, 12);
+        LocalDate end = LocalDate.of(2026, 5, 16);
+
+        // When
+        service.calculate(new CalculateVacationPayRequest(15000.0, 3, start, end, null, null, null, null));
+        service.calculate(new CalculateVacationPayRequest(15000.0, null, start, end, "ru", null, null, null));
+        service.calculate(new CalculateVacationPayRequest(15000.0, 14, null, null, null, null, null, null));
+        service.calculate(new CalculateVacationPayRequest(15000.0, 14, start, null, null, null, null, null));
+
+        // Then: два различных расчёта, два попадания в кэш
+        verify(delegate, times(2)).calculate(any(CalculateVacationPayRequest.class));
+        assertThat(service.getStats().hitCount()).isEqualTo(2);
+        assertThat(service.getStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTreatMissingPaidDaysPolicyAsDefault() {
+        // Given
+        LocalDate start = LocalDate.of(2026, 5, 12);
+        LocalDate end = LocalDate.of(2026, 5, 16);
+
+        // When
+        service.calculate(new CalculateVacationPayRequest(15000.0, null, start, end, null, null, null, null));
+        service.calculate(new CalculateVacationPayRequest(15000.0, null, start, end, null, CalendarDaysPolicy.NAME, null, null));
+        service.calculate(new CalculateVacationPayRequest(15000.0, null, start, end, null, "working-days", null, null));
+
+        // Then: явно заданное правило по умолчанию попадает в ту же запись, другое правило — нет
+        verify(delegate, times(2)).calculate(any(CalculateVacationPayRequest.class));
+        assertThat(service.getStats().hitCount()).isEqualTo(1);
+        assertThat(service.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        // Given
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(-1.0, 14, null, null, null, null, null, null);
+        when(delegate.calculate(request)).thenThrow(new IllegalArgumentException("The average salary should be more than zero"));
+
+        // When + Then
+        assertThatThrownBy(() -> service.calculate(request)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.calculate(request)).isInstanceOf(IllegalArgumentException.class);
+        verify(delegate, times(2)).calculate(request);
+    }
+
+    @Test
+    void shouldInvalidateOnlyEntriesAffectedByCalendarChange() throws IOException {
+        // Given: расчёты за январь 2026, январь 2027 и по количеству дней
+        CalculateVacationPayRequest january2026 = new CalculateVacationPayRequest(
+                15000.0, null, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null, null, null, null);
+        CalculateVacationPayRequest january2027 = new CalculateVacationPayRequest(
+                15000.0, null, LocalDate.of(2027, 1, 1), LocalDate.of(2027, 1, 31), null, null, null, null);
+        CalculateVacationPayRequest byDays = new CalculateVacationPayRequest(15000.0, 14, null, null, null, null, null, null);
+        service.calculate(january2026);
+        service.calculate(january2027);
+        service.calculate(byDays);
+
+        // When: в 2026 год добавлен перенесённый выходной
+        calendarRegistry.replace(Map.of("ru", calendar("2026 holidays 01-01..01-09 05-04\n")));
+
+        // Then: пересчитывается только январь 2026
+        service.calculate(january2026);
+        service.calculate(january2027);
+        service.calculate(byDays);
+        verify(delegate, times(2)).calculate(january2026);
+        verify(delegate, times(1)).calculate(january2027);
+        verify(delegate, times(1)).calculate(byDays);
+    }
+
+    @Test
+    void shouldInvalidateOnlyResultsOfChangedTenant() {
+        // Given
+        LocalDate start = LocalDate.of(2026, 5, 12);
+        LocalDate end = LocalDate.of(2026, 5, 16);
+        CalculateVacationPayRequest acme = new CalculateVacationPayRequest(15000.0, null, start, end, null, null, null, "acme");
+        CalculateVacationPayRequest globex = new CalculateVacationPayRequest(15000.0, null, start, end, null, null, null, "globex");
+        CalculateVacationPayRequest region = new CalculateVacationPayRequest(15000.0, null, start, end, null, null, null, null);
+        service.calculate(acme);
+        service.calculate(globex);
+        service.calculate(region);
+
+        // When: изменился корпоративный календарь acme
+        service.invalidateTenant("acme");
+
+        // Then
+        service.calculate(acme);
+        service.calculate(globex);
+        service.calculate(region);
+        verify(delegate, times(2)).calculate(acme);
+        verify(delegate, times(1)).calculate(globex);
+        verify(delegate, times(1)).calculate(region);
+    }
+
+    @Test
+    void shouldNotKeepResultComputedWhileCalendarWasReplaced() throws Exception {
+        // Given: расчёт за май 2026 начат по старому календарю и остановлен посередине
+        CalculateVacationPayRequest may2026 = new CalculateVacationPayRequest(
+                15000.0, null, LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 31), null, null, null, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CachingVacationPayCalculatorService blocking = new CachingVacationPayCalculatorService(request -> {
+            boolean firstCall = calls.getAndIncrement() == 0;
+            BigDecimal holidays = BigDecimal.valueOf(calendarRegistry.get("ru").countHolidays(request.getStartDate(), request.getEndDate()));
+            if (firstCall) {
+                started.countDown();
+                await(release);
+            }
+            return new CalculateVacationPayResponse(holidays);
+        }, calendarRegistry, CalendarDaysPolicy.NAME, 100, Duration.ZERO);
+        CompletableFuture<CalculateVacationPayResponse> inFlight = CompletableFuture.supplyAsync(() -> blocking.calculate(may2026));
+        await(started);
+
+        // When: 4 мая стал праздником, после чего расчёт по старому календарю завершается
+        calendarRegistry.replace(Map.of("ru", calendar("2026 holidays 01-01..01-09 05-04\n")));
+        release.countDown();
+
+        // Then: начатый расчёт вернул старый результат, но следующий запрос считается по новому календарю
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getVacationPay()).isEqualByComparingTo("0");
+        assertThat(blocking.calculate(may2026).getVacationPay()).isEqualByComparingTo("1");
+        assertThat(blocking.calculate(may2026).getVacationPay()).isEqualByComparingTo("1");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictWhenMaximumSizeExceeded() {
+        // Given
+        CachingVacationPayCalculatorService small =
+                new CachingVacationPayCalculatorService(delegate, calendarRegistry, CalendarDaysPolicy.NAME, 10, Duration.ZERO);
+
+        // When
+        for (int days = 1; days <= 100; days++) {
+            small.calculate(new CalculateVacationPayRequest(15000.0, days, null, null, null, null, null, null));
+        }
+        small.getCache().cleanUp();
+
+        // Then
+        assertThat(small.getSize()).isLessThanOrEqualTo(10);
+        assertThat(small.getStats().evictionCount()).isGreaterThanOrEqualTo(90);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static ProductionCalendar calendar(String source) throws IOException {
+        return CalendarSourceParser.parse("ru", new StringReader(source));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.service.impl.CalendarDaysPolicy;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.VacationPayCalculatorServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Цепочка сервисов расчёта, которую собирают конфигурации кэша и объединения расчётов
+ */
+public class CalculationServiceChainTest {
+
+    private static final CalculateVacationPayRequest CACHEABLE = new CalculateVacationPayRequest(
+            15000.0, 14, null, null, null, null, null, null);
+    private static final CalculateVacationPayRequest BY_DATES = new CalculateVacationPayRequest(
+            15000.0, null, LocalDate.of(2026, 5, 12), LocalDate.of(2026, 5, 25), null, null, null, null);
+    private static final CalculateVacationPayRequest BY_EMPLOYEE = new CalculateVacationPayRequest(
+            null, 14, null, null, null, null, "E-1", null);
+
+    private final VacationPayCalculatorServiceImpl calculator = mock(VacationPayCalculatorServiceImpl.class);
+    private ApplicationContextRunner contextRunner;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(calculator.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+        ProductionCalendarRegistry calendarRegistry = new ProductionCalendarRegistry(Map.of("ru",
+                CalendarSourceParser.parse("ru", new StringReader("2026 holidays 01-01..01-09\n"))), "ru");
+
+        contextRunner = new ApplicationContextRunner()
+                .withUserConfiguration(CalculationCacheConfiguration.class, SingleFlightConfiguration.class)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withBean(CalculationMetrics.class)
+                .withBean(ProductionCalendarRegistry.class, () -> calendarRegistry)
+                .withBean(TenantCalendarRegistry.class, () -> new TenantCalendarRegistry(calendarRegistry))
+                .withBean(PaidDaysPolicies.class, () -> new PaidDaysPolicies(
+                        List.of(new CalendarDaysPolicy(mock(HolidayService.class))), CalendarDaysPolicy.NAME))
+                .withBean(VacationPayCalculatorServiceImpl.class, () -> calculator);
+    }
+
+    @Test
+    void shouldPutSingleFlightBeforeCacheWhenCacheEnabled() {
+        contextRunner.run(context -> {
+            // Given
+            VacationPayCalculatorService service = context.getBean(VacationPayCalculatorService.class);
+            assertThat(service).isInstanceOf(SingleFlightVacationPayCalculatorService.class);
+            assertThat(context).hasSingleBean(CachingVacationPayCalculatorService.class);
+
+            // When
+            service.calculate(CACHEABLE);
+            service.calculate(CACHEABLE);
+            service.calculate(BY_DATES);
+            service.calculate(BY_DATES);
+            service.calculate(BY_EMPLOYEE);
+            service.calculate(BY_EMPLOYEE);
+
+            // Then: запросы с ключом посчитаны один раз и взяты из кэша, мимо объединения расчётов;
+            // запрос по employeeId кэш не хранит, он прошёл через объединение при каждом вызове
+            verify(calculator, times(1)).calculate(CACHEABLE);
+            verify(calculator, times(1)).calculate(BY_DATES);
+            verify(calculator, times(2)).calculate(BY_EMPLOYEE);
+            assertThat(context.getBean(CachingVacationPayCalculatorService.class).getStats().hitCount()).isEqualTo(2);
+            assertThat(singleFlightCalls(context, "executed")).isEqualTo(2);
+
+            // Then: запросы по режимам считаются до кэша, вместе с попаданиями
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            assertThat(calculationRequests(context, "days")).isEqualTo(4);
+            assertThat(calculationRequests(context, "date-range")).isEqualTo(2);
+            assertThat(meterRegistry.get("vacation.calculation.range.length").summary().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("vacation.calculation.range.length").summary().totalAmount()).isEqualTo(28);
+        });
+    }
+
+    @Test
+    void shouldPutSingleFlightBeforeCalculatorWhenCacheDisabled() {
+        contextRunner.withPropertyValues("vacation.cache.enabled=false").run(context -> {
+            // Given
+            VacationPayCalculatorService service = context.getBean(VacationPayCalculatorService.class);
+            assertThat(service).isInstanceOf(SingleFlightVacationPayCalculatorService.class);
+            assertThat(context).doesNotHaveBean(CachingVacationPayCalculatorService.class);
+
+            // When
+            service.calculate(CACHEABLE);
+            service.calculate(CACHEABLE);
+
+            // Then: каждый вызов дошёл до расчёта через объединение
+            verify(calculator, times(2)).calculate(CACHEABLE);
+            assertThat(singleFlightCalls(context, "executed")).isEqualTo(2);
+            assertThat(calculationRequests(context, "days")).isEqualTo(2);
+        });
+    }
+
+    private static double calculationRequests(AssertableApplicationContext context, String mode) {
+        return context.getBean(MeterRegistry.class).get("vacation.calculation.requests")
+                .tag("mode", mode).counter().count();
+    }
+
+    private static double singleFlightCalls(AssertableApplicationContext context, String outcome) {
+        return context.getBean(MeterRegistry.class).get("vacation.singleflight.calls")
+                .tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.vacation_pay_calculator.cache;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.service.impl.CalendarDaysPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightVacationPayCalculatorServiceTest {
+
+    private static final int CALLERS_PER_KEY = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<CalculateVacationPayRequest, AtomicInteger> computations = new ConcurrentHashMap<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2 * CALLERS_PER_KEY);
+
+    private volatile CountDownLatch release;
+    private volatile RuntimeException failure;
+    private VacationPayCalculatorService delegate;
+    private ProductionCalendarRegistry calendarRegistry;
+    private SingleFlightVacationPayCalculatorService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Расчёт держится, пока тест не отпустит его: к этому моменту остальные запросы уже ждут результат
+        delegate = request -> {
+            computations.computeIfAbsent(request, key -> new AtomicInteger()).incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new CalculateVacationPayResponse(request.getAverageSalary() != null
+                    ? BigDecimal.valueOf(request.getAverageSalary())
+                    : BigDecimal.valueOf(request.getVacationDays()));
+        };
+
+        calendarRegistry = new ProductionCalendarRegistry(Map.of("ru",
+                CalendarSourceParser.parse("ru", new StringReader("2026 holidays 01-01..01-09\n"))), "ru");
+        service = new SingleFlightVacationPayCalculatorService(delegate, calendarRegistry,
+                CalendarDaysPolicy.NAME, new CalculationMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldComputeOncePerKeyPerBurst() throws Exception {
+        // Given: два разных запроса, по 8 одновременных вызовов каждого
+        CalculateVacationPayRequest first = new CalculateVacationPayRequest(
+                15000.0, null, LocalDate.of(2026, 5, 12), LocalDate.of(2026, 5, 25), null, null, null, null);
+        CalculateVacationPayRequest second = new CalculateVacationPayRequest(
+                20000.0, 14, null, null, null, null, null, null);
+
+        for (int burst = 1; burst <= 2; burst++) {
+            // When
+            release = new CountDownLatch(1);
+            List<Future<CalculateVacationPayResponse>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS_PER_KEY; i++) {
+                results.add(callers.submit(() -> service.calculate(first)));
+                results.add(callers.submit(() -> service.calculate(second)));
+            }
+            awaitCoalesced(burst * 2 * (CALLERS_PER_KEY - 1));
+            release.countDown();
+
+            // Then: каждый ключ посчитан ровно один раз за всплеск, все вызовы получили его результат
+            for (int i = 0; i < results.size(); i++) {
+                BigDecimal expected = i % 2 == 0 ? BigDecimal.valueOf(15000.0) : BigDecimal.valueOf(20000.0);
+                assertThat(results.get(i).get(5, TimeUnit.SECONDS).getVacationPay()).isEqualTo(expected);
+            }
+            assertThat(computations.get(first)).hasValue(burst);
+            assertThat(computations.get(second)).hasValue(burst);
+            assertThat(calls("executed")).isEqualTo(2 * burst);
+            assertThat(service.getInFlight()).isZero();
+        }
+    }
+
+    @Test
+    void shouldShareFailureWithWaitingCallers() throws Exception {
+        // Given
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(
+                15000.0, 14, null, null, null, null, null, null);
+        failure = new InvalidInputException("The average salary should be more than zero");
+        release = new CountDownLatch(1);
+
+        // When
+        List<Future<CalculateVacationPayResponse>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS_PER_KEY; i++) {
+            results.add(callers.submit(() -> service.calculate(request)));
+        }
+        awaitCoalesced(CALLERS_PER_KEY - 1);
+        release.countDown();
+
+        // Then: исключение то же, что у выполнившего расчёт, без обёрток
+        for (Future<CalculateVacationPayResponse> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCause(failure);
+        }
+        assertThat(computations.get(request)).hasValue(1);
+        assertThat(service.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldCountCacheLoadsAsSingleFlightCalls() throws Exception {
+        // Given: конфигурация по умолчанию — объединение перед кэшем; запрос с ключом кэша и запрос по employeeId
+        CachingVacationPayCalculatorService cache = new CachingVacationPayCalculatorService(delegate, calendarRegistry,
+                CalendarDaysPolicy.NAME, 100, Duration.ZERO);
+        SingleFlightVacationPayCalculatorService beforeCache = new SingleFlightVacationPayCalculatorService(cache,
+                calendarRegistry, CalendarDaysPolicy.NAME, new CalculationMetrics(meterRegistry));
+        CalculateVacationPayRequest cacheable = new CalculateVacationPayRequest(
+                15000.0, 14, null, null, null, null, null, null);
+        CalculateVacationPayRequest byEmployee = new CalculateVacationPayRequest(
+                null, 14, null, null, null, null, "E-1", null);
+        release = new CountDownLatch(1);
+
+        // When: все вызовы дошли до ожидания, после чего расчёты завершаются
+        List<FutureTask<CalculateVacationPayResponse>> results = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CALLERS_PER_KEY; i++) {
+            for (CalculateVacationPayRequest request : List.of(cacheable, byEmployee)) {
+                FutureTask<CalculateVacationPayResponse> result = new FutureTask<>(() -> beforeCache.calculate(request));
+                Thread thread = new Thread(result);
+                thread.start();
+                results.add(result);
+                threads.add(thread);
+            }
+        }
+        awaitWaiting(threads);
+        release.countDown();
+
+        // Then: каждый запрос посчитан один раз, остальные вызовы учтены как объединённые
+        for (FutureTask<CalculateVacationPayResponse> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(computations.get(cacheable)).hasValue(1);
+        assertThat(computations.get(byEmployee)).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(2);
+        assertThat(calls("coalesced")).isEqualTo(2 * (CALLERS_PER_KEY - 1));
+
+        // When + Then: попадание в готовую запись — не объединение
+        beforeCache.calculate(cacheable);
+        assertThat(calls("executed")).isEqualTo(2);
+        assertThat(calls("coalesced")).isEqualTo(2 * (CALLERS_PER_KEY - 1));
+    }
+
+    /**
+     * Выполняющий расчёт ждёт {@link #release}, остальные — его результат
+     */
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.BLOCKED
+                || thread.getState() == Thread.State.WAITING)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Not all callers reached the in-flight calculations");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("coalesced") < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Only " + calls("coalesced") + " of " + expected + " callers joined in-flight calculations");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("vacation.singleflight.calls").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CalendarFileWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private CalendarFileWatcher watcher;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void shouldReadBundleWrittenByWriter() throws IOException {
+        // Given
+        Path file = directory.resolve("calendars.bin");
+        new CalendarBundle(7, Map.of(
+                "ru", calendar("ru", "2030 holidays 01-01..01-03\n2030 workdays 01-04\n"),
+                "by", calendar("by", "2030 holidays 07-03\n"))).write(file);
+
+        // When
+        CalendarBundle bundle = CalendarBundle.read(file);
+
+        // Then
+        assertThat(bundle.getVersion()).isEqualTo(7);
+        assertThat(bundle.getCalendars()).containsOnlyKeys("ru", "by");
+        ProductionCalendar ru = bundle.getCalendars().get("ru");
+        assertThat(ru.countHolidays(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31))).isEqualTo(3);
+        assertThat(ru.isTransferredWorkingDay(LocalDate.of(2030, 1, 4).toEpochDay())).isTrue();
+        assertThat(bundle.getCalendars().get("by").isHoliday(LocalDate.of(2030, 7, 3))).isTrue();
+    }
+
+    @Test
+    void shouldRejectCorruptedBundle() throws IOException {
+        // Given: файл обрезан посередине записи
+        Path file = directory.resolve("calendars.bin");
+        new CalendarBundle(1, Map.of("ru", calendar("ru", "2030 holidays 01-01\n"))).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        // When + Then
+        assertThatThrownBy(() -> CalendarBundle.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Malformed calendar bundle");
+    }
+
+    @Test
+    void shouldSwapCalendarsWhenFileIsReplaced() throws Exception {
+        // Given
+        Path file = directory.resolve("calendars.bin");
+        new CalendarBundle(1, Map.of("ru", calendar("ru", "2030 holidays 01-01\n"))).write(file);
+
+        ProductionCalendarRegistry registry = new ProductionCalendarRegistry(
+                Map.of("ru", calendar("ru", "")), "ru");
+        List<CalendarChange> changes = new ArrayList<>();
+        registry.addChangeListener(changes::add);
+
+        watcher = new CalendarFileWatcher(file, registry, new SimpleMeterRegistry());
+        watcher.start();
+        assertThat(registry.getVersion()).isEqualTo(1);
+        assertThat(registry.get("ru").isHoliday(LocalDate.of(2030, 1, 1))).isTrue();
+
+        // When: перенос праздника объявлен посреди года
+        new CalendarBundle(2, Map.of("ru", calendar("ru", "2030 holidays 01-01 05-02\n"))).write(file);
+
+        // Then
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (registry.getVersion() != 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(registry.getVersion()).isEqualTo(2);
+        assertThat(registry.get("ru").isHoliday(LocalDate.of(2030, 5, 2))).isTrue();
+        assertThat(watcher.getReloadCount()).isGreaterThanOrEqualTo(2);
+        assertThat(changes).isNotEmpty();
+    }
+
+    @Test
+    void shouldKeepCurrentCalendarsWhenFileIsBroken() throws IOException {
+        // Given
+        Path file = directory.resolve("calendars.bin");
+        new CalendarBundle(1, Map.of("ru", calendar("ru", "2030 holidays 01-01\n"))).write(file);
+        ProductionCalendarRegistry registry = new ProductionCalendarRegistry(Map.of("ru", calendar("ru", "")), "ru");
+        watcher = new CalendarFileWatcher(file, registry, new SimpleMeterRegistry());
+        watcher.start();
+
+        // When
+        Files.writeString(file, "not a calendar");
+
+        // Then
+        assertThat(watcher.reload()).isFalse();
+        assertThat(registry.getVersion()).isEqualTo(1);
+        assertThat(registry.get("ru").isHoliday(LocalDate.of(2030, 1, 1))).isTrue();
+        assertThat(watcher.getFailedReloadCount()).isPositive();
+        assertThat(watcher.getLastError()).contains("Malformed calendar bundle");
+    }
+
+    private static ProductionCalendar calendar(String region, String source) throws IOException {
+        return CalendarSourceParser.parse(region, new StringReader(source));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CalendarSourceParserTest {
+
+    @Test
+    void shouldParseHolidaysAndTransferredWorkingDays() throws IOException {
+        // Given
+        String source = "# тестовый календарь\n"
+                + "2030 holidays 01-01..01-03 12-31 # канун Нового года\n"
+                + "\n"
+                + "2032 holidays 02-29\n"
+                + "2032 workdays 03-06\n";
+
+        // When
+        ProductionCalendar calendar = CalendarSourceParser.parse("test", new StringReader(source));
+
+        // Then: 2031 год отсутствует в файле и не содержит праздников
+        assertThat(calendar.getRegion()).isEqualTo("test");
+        assertThat(calendar.getYears()).extracting(YearCalendar::getYear).containsExactly(2030, 2031, 2032);
+        assertThat(calendar.isHoliday(LocalDate.of(2030, 1, 2))).isTrue();
+        assertThat(calendar.isHoliday(LocalDate.of(2030, 1, 4))).isFalse();
+        assertThat(calendar.isHoliday(LocalDate.of(2032, 2, 29))).isTrue();
+        assertThat(calendar.isTransferredWorkingDay(LocalDate.of(2032, 3, 6).toEpochDay())).isTrue();
+        assertThat(calendar.countHolidays(LocalDate.of(2030, 1, 1), LocalDate.of(2032, 12, 31))).isEqualTo(5);
+        assertThat(calendar.countHolidays(LocalDate.of(2030, 12, 31), LocalDate.of(2032, 2, 28))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResolveDayTypes() throws IOException {
+        // Given: 1 января 2030 — вторник, 5 января — суббота
+        String source = "2030 holidays 01-01\n2030 workdays 01-05\n2030 shortdays 01-04\n";
+
+        // When
+        ProductionCalendar calendar = CalendarSourceParser.parse("test", new StringReader(source));
+
+        // Then
+        assertThat(calendar.dayType(LocalDate.of(2030, 1, 1).toEpochDay())).isEqualTo(DayType.HOLIDAY);
+        assertThat(calendar.dayType(LocalDate.of(2030, 1, 2).toEpochDay())).isEqualTo(DayType.WORKING);
+        assertThat(calendar.dayType(LocalDate.of(2030, 1, 4).toEpochDay())).isEqualTo(DayType.SHORTENED);
+        assertThat(calendar.dayType(LocalDate.of(2030, 1, 5).toEpochDay())).isEqualTo(DayType.WORKING);
+        assertThat(calendar.dayType(LocalDate.of(2030, 1, 6).toEpochDay())).isEqualTo(DayType.WEEKEND);
+        assertThat(calendar.getYear(2030).workingDayCount()).isEqualTo(261 - 1 + 1);
+    }
+
+    @Test
+    void shouldResolveDayTypesOutsideCalendarYearsByDayOfWeek() throws IOException {
+        // Given
+        ProductionCalendar calendar = CalendarSourceParser.parse("test", new StringReader("2030 holidays 01-01\n"));
+
+        // When + Then: тип дня вне диапазона лет совпадает с пустым календарём года
+        for (LocalDate date = LocalDate.of(1969, 12, 25); date.isBefore(LocalDate.of(1970, 1, 10)); date = date.plusDays(1)) {
+            assertThat(calendar.dayType(date.toEpochDay())).as(date.toString())
+                    .isEqualTo(YearCalendar.empty(date.getYear()).dayType(date.getDayOfYear() - 1));
+        }
+        for (LocalDate date = LocalDate.of(2031, 1, 1); date.isBefore(LocalDate.of(2031, 1, 15)); date = date.plusDays(1)) {
+            assertThat(calendar.dayType(date.toEpochDay())).as(date.toString())
+                    .isEqualTo(YearCalendar.empty(date.getYear()).dayType(date.getDayOfYear() - 1));
+        }
+    }
+
+    @Test
+    void shouldIndexFiveDayWeekByYearWorkingDays() throws IOException {
+        // Given
+        ProductionCalendar calendar = CalendarSourceParser.parse("test", new StringReader("2030 holidays 01-01\n2030 workdays 01-05\n"));
+        long withoutIndex = calendar.estimatedHeapBytes();
+
+        // When
+        long workingDays = calendar.countWorkingDays(WorkSchedule.fiveDayWeek(),
+                LocalDate.of(2030, 1, 1).toEpochDay(), LocalDate.of(2030, 12, 31).toEpochDay());
+
+        // Then: индекс пятидневки берёт битовую карту года и не строит свою
+        assertThat(workingDays).isEqualTo(calendar.getYear(2030).workingDayCount());
+        assertThat(calendar.estimatedHeapBytes() - withoutIndex).isLessThan(DayBits.BITMAP_HEAP_BYTES);
+    }
+
+    @Test
+    void shouldReportMalformedLine() {
+        // Given: 30 февраля не существует
+        String source = "2030 holidays 01-01\n2030 holidays 02-30\n";
+
+        // When + Then
+        assertThatThrownBy(() -> CalendarSourceParser.parse("test", new StringReader(source)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Malformed calendar 'test' at line 2");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Календари, собранные задачей Gradle {@code compileCalendars}, совпадают с исходными файлами.
+ * Время загрузки обоими способами сравнивает {@code CalendarLoadBenchmark} (JMH).
+ */
+public class PrecompiledCalendarTest {
+
+    @Test
+    void shouldMatchParsedSources() throws IOException {
+        // Given: собранный при сборке файл (при запуске из IDE без Gradle его нет)
+        ClassPathResource precompiled = new ClassPathResource(CalendarConfiguration.PRECOMPILED_BUNDLE);
+        assumeTrue(precompiled.exists(), "Run through Gradle to build " + CalendarConfiguration.PRECOMPILED_BUNDLE);
+
+        // When
+        Map<String, ProductionCalendar> loaded = readPrecompiled(precompiled);
+        Map<String, ProductionCalendar> parsed = CalendarConfiguration.parse("classpath*:calendars/*.cal");
+
+        // Then: те же дни во всех годах всех регионов
+        assertThat(loaded.keySet()).isEqualTo(parsed.keySet());
+        parsed.forEach((region, calendar) -> {
+            List<YearCalendar> expected = calendar.getYears();
+            List<YearCalendar> actual = loaded.get(region).getYears();
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).getYear()).isEqualTo(expected.get(i).getYear());
+                assertThat(actual.get(i).hasSameDaysAs(expected.get(i))).isTrue();
+            }
+        });
+
+        // And: оценка памяти (по размерам массивов, не замер) — до 512 байт на год календаря
+        ProductionCalendarRegistry registry = new ProductionCalendarRegistry(loaded, "ru");
+        int years = loaded.values().stream().mapToInt(calendar -> calendar.getYears().size()).sum();
+        assertThat(registry.getEstimatedHeapBytes()).isLessThan(512L * years + 256L * loaded.size());
+    }
+
+    private static Map<String, ProductionCalendar> readPrecompiled(ClassPathResource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return CalendarBundle.read(resource.getPath(), in).getCalendars();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.vacation_pay_calculator.calendar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TenantCalendarRegistryTest {
+
+    private static final String RU = "2026 holidays 01-01..01-09 05-01 05-11\n"
+            + "2026 workdays 11-07\n"
+            + "2026 shortdays 04-30\n";
+    private static final long MAY_1 = LocalDate.of(2026, 5, 1).toEpochDay();
+    private static final long MAY_31 = LocalDate.of(2026, 5, 31).toEpochDay();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAddTenantDaysToRegionCalendar() throws IOException {
+        // Given: корпоративные выходные 30 апреля, 12 мая, рабочая суббота 7 ноября 2026 и 11 января 2027
+        ProductionCalendarRegistry regions = regions(RU);
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions,
+                Map.of("acme", calendar("acme", "2026 holidays 04-30 05-12 11-07\n2027 holidays 01-11\n"))::get,
+                Long.MAX_VALUE, Duration.ZERO);
+
+        // When
+        ProductionCalendar acme = registry.get("acme", null);
+
+        // Then
+        assertThat(acme.getRegion()).isEqualTo("ru");
+        assertThat(acme.isHoliday(LocalDate.of(2026, 5, 11))).isTrue();
+        assertThat(acme.isHoliday(LocalDate.of(2026, 5, 12))).isTrue();
+        assertThat(acme.dayType(LocalDate.of(2026, 4, 30).toEpochDay())).isEqualTo(DayType.HOLIDAY);
+        assertThat(acme.isTransferredWorkingDay(LocalDate.of(2026, 11, 7).toEpochDay())).isFalse();
+        assertThat(acme.isHoliday(LocalDate.of(2027, 1, 11))).isTrue();
+        assertThat(acme.countHolidays(LocalDate.of(2026, 1, 1), LocalDate.of(2027, 12, 31))).isEqualTo(11 + 3 + 1);
+        // Календарь региона и арендатор без корпоративных дней не затронуты
+        assertThat(registry.get(null, null).isHoliday(LocalDate.of(2026, 5, 12))).isFalse();
+        assertThat(registry.get("globex", "ru")).isSameAs(regions.get("ru"));
+        assertThat(registry.get("acme", "ru")).isSameAs(acme);
+    }
+
+    @Test
+    void shouldRebuildTenantCalendarWhenRegionCalendarIsReplaced() throws IOException {
+        // Given
+        ProductionCalendarRegistry regions = regions(RU);
+        AtomicInteger loads = new AtomicInteger();
+        ProductionCalendar overlay = calendar("acme", "2026 holidays 05-12\n");
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions,
+                tenant -> {
+                    loads.incrementAndGet();
+                    return overlay;
+                }, Long.MAX_VALUE, Duration.ZERO);
+        ProductionCalendar before = registry.get("acme", null);
+
+        // When: 4 ноября стал праздником
+        regions.replace(Map.of("ru", calendar("ru", RU + "2026 holidays 11-04\n")));
+        ProductionCalendar after = registry.get("acme", null);
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.isHoliday(LocalDate.of(2026, 11, 4))).isTrue();
+        assertThat(after.isHoliday(LocalDate.of(2026, 5, 12))).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictTenantsBeyondHeapLimit() throws IOException {
+        // Given: предел памяти — на несколько составных календарей с индексом пятидневки
+        ProductionCalendarRegistry regions = regions(RU);
+        ProductionCalendar overlay = calendar("tenant", "2026 holidays 05-12\n");
+        ProductionCalendar sample = regions.get("ru").withDaysOf(overlay);
+        sample.countWorkingDays(WorkSchedule.fiveDayWeek(), MAY_1, MAY_31);
+        long maximumHeapBytes = 8 * sample.estimatedHeapBytes();
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions, tenant -> overlay,
+                maximumHeapBytes, Duration.ofMinutes(30));
+
+        // When: у каждого арендатора после построения календаря строится индекс графика
+        WorkSchedule fiveDayWeek = WorkSchedule.fiveDayWeek();
+        for (int i = 0; i < 10_000; i++) {
+            ProductionCalendar tenantCalendar = registry.get("tenant-" + i, null);
+            assertThat(tenantCalendar.isHoliday(LocalDate.of(2026, 5, 12))).isTrue();
+            assertThat(tenantCalendar.countWorkingDays(fiveDayWeek, MAY_1, MAY_31)).isEqualTo(18);
+        }
+        registry.getCache().cleanUp();
+
+        // Then
+        assertThat(registry.getSize()).isLessThan(8);
+        assertThat(registry.getEstimatedHeapBytes()).isLessThanOrEqualTo(maximumHeapBytes);
+    }
+
+    @Test
+    void shouldReweighTenantCalendarWhenScheduleIndexIsBuilt() throws IOException {
+        // Given
+        ProductionCalendar overlay = calendar("acme", "2026 holidays 05-12\n");
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions(RU), tenant -> overlay,
+                Long.MAX_VALUE, Duration.ZERO);
+        ProductionCalendar acme = registry.get("acme", null);
+        registry.getCache().cleanUp();
+        long withoutIndex = registry.getEstimatedHeapBytes();
+
+        // When
+        acme.countWorkingDays(WorkSchedule.fiveDayWeek(), MAY_1, MAY_31);
+        registry.getCache().cleanUp();
+
+        // Then: в вес записи вошёл индекс графика
+        assertThat(registry.getEstimatedHeapBytes()).isGreaterThan(withoutIndex);
+        assertThat(registry.getEstimatedHeapBytes()).isEqualTo(128 + acme.estimatedHeapBytes());
+    }
+
+    @Test
+    void shouldReadTenantCalendarsFromDirectory() throws IOException {
+        // Given
+        Files.writeString(directory.resolve("acme.cal"), "2026 holidays 05-12\n");
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions(RU),
+                TenantCalendarRegistry.overlaysFrom(directory), Long.MAX_VALUE, Duration.ZERO);
+
+        // When + Then
+        assertThat(registry.get("acme", null).isHoliday(LocalDate.of(2026, 5, 12))).isTrue();
+        assertThat(registry.get("globex", null).isHoliday(LocalDate.of(2026, 5, 12))).isFalse();
+    }
+
+    @Test
+    void shouldReloadTenantCalendarWhenFileChanges() throws Exception {
+        // Given
+        Path file = directory.resolve("acme.cal");
+        Files.writeString(file, "2026 holidays 05-12\n");
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions(RU),
+                TenantCalendarRegistry.overlaysFrom(directory), Long.MAX_VALUE, Duration.ofMinutes(30));
+        List<String> changes = new CopyOnWriteArrayList<>();
+        registry.addChangeListener(changes::add);
+        assertThat(registry.get("acme", null).isHoliday(LocalDate.of(2026, 5, 12))).isTrue();
+
+        try (TenantCalendarWatcher watcher = new TenantCalendarWatcher(directory, registry)) {
+            watcher.start();
+
+            // When: корпоративный выходной перенесён на 13 мая
+            Files.writeString(file, "2026 holidays 05-13\n");
+
+            // Then
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (!registry.get("acme", null).isHoliday(LocalDate.of(2026, 5, 13)) && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+        assertThat(registry.get("acme", null).isHoliday(LocalDate.of(2026, 5, 13))).isTrue();
+        assertThat(registry.get("acme", null).isHoliday(LocalDate.of(2026, 5, 12))).isFalse();
+        assertThat(changes).contains("acme");
+    }
+
+    @Test
+    void shouldRejectInvalidTenant() throws IOException {
+        // Given
+        TenantCalendarRegistry registry = new TenantCalendarRegistry(regions(RU),
+                TenantCalendarRegistry.overlaysFrom(directory), Long.MAX_VALUE, Duration.ZERO);
+
+        // When + Then
+        assertThatThrownBy(() -> registry.get("../acme", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid tenant: ../acme");
+        assertThat(registry.getSize()).isZero();
+    }
+
+    private static ProductionCalendarRegistry regions(String ru) throws IOException {
+        return new ProductionCalendarRegistry(Map.of("ru", calendar("ru", ru)), "ru");
+    }
+
+    private static ProductionCalendar calendar(String name, String source) throws IOException {
+        return CalendarSourceParser.parse(name, new StringReader(source));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.binding.FastBindingConfiguration;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code vacation.binding.mode=fast}: те же ответы, что при стандартном связывании
+ */
+@WebMvcTest(controllers = VacationPayCalculatorController.class, properties = "vacation.binding.mode=fast")
+@Import(FastBindingConfiguration.class)
+public class FastRequestBindingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VacationPayCalculatorService service;
+
+    @MockBean
+    private CalculationMetrics metrics;
+
+    @Test
+    void shouldBindAllQueryParameters() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+
+        //When
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "15000.5")
+                        .param("startDate", "2026-05-12")
+                        .param("endDate", "2026-05-25")
+                        .param("region", "ru")
+                        .header("X-Tenant-Id", "acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vacationPay").value(7167.24));
+
+        //Then
+        ArgumentCaptor<CalculateVacationPayRequest> captor = ArgumentCaptor.forClass(CalculateVacationPayRequest.class);
+        verify(service).calculate(captor.capture());
+        assertThat(captor.getValue()).isEqualTo(new CalculateVacationPayRequest(
+                15000.5, null, LocalDate.of(2026, 5, 12), LocalDate.of(2026, 5, 25), "ru", null, null, "acme"));
+    }
+
+    @Test
+    void shouldReturnSameValidationDetailsAsBeanValidation() throws Exception {
+        //When + Then
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "-15000.0")
+                        .param("vacationDays", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"))
+                .andExpect(jsonPath("$.details.averageSalary").value("The average salary should be a positive number"))
+                .andExpect(jsonPath("$.details.vacationDays").value("The number of vacation days must be at least 1"));
+
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "15000.0")
+                        .param("startDate", "2026-05-12"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.datesValid").value(
+                        "Both start date and end date must be provided, and end date must be later than or equal to start date"));
+
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "15000.0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.simpleValid").value(
+                        "Vacation days must be specified when start date and end date are not provided"));
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void shouldReturn400WhenParameterCannotBeConverted() throws Exception {
+        //When + Then: тексты те же, что в VacationPayCalculatorControllerTest при стандартном связывании
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "abc")
+                        .param("vacationDays", "14"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.averageSalary").value(VacationPayCalculatorControllerTest.SALARY_TYPE_MISMATCH));
+
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "15000.0")
+                        .param("startDate", "2026-02-30")
+                        .param("endDate", "2026-03-05"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.startDate").value(VacationPayCalculatorControllerTest.START_DATE_TYPE_MISMATCH))
+                .andExpect(jsonPath("$.details.datesValid").doesNotExist());
+
+        verifyNoInteractions(service);
+    }
+}
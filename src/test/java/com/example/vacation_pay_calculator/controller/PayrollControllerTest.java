@@ -0,0 +1,102 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.AverageEarningsService;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PayrollController.class)
+public class PayrollControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AverageEarningsService averageEarningsService;
+
+    @MockBean
+    private CalculationMetrics metrics;
+
+    @Test
+    void shouldRecordMonthAndReturn204() throws Exception {
+        //When + Then
+        mockMvc.perform(post("/payroll/E-1/months")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"month\":\"2026-04\",\"earnings\":50000,\"excludedDays\":3}"))
+                .andExpect(status().isNoContent());
+
+        verify(averageEarningsService).recordMonth("E-1", YearMonth.of(2026, 4), new BigDecimal("50000"), 3);
+    }
+
+    @Test
+    void shouldTreatMissingExcludedDaysAsZero() throws Exception {
+        //When + Then
+        mockMvc.perform(post("/payroll/E-1/months")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"month\":\"2026-04\",\"earnings\":50000}"))
+                .andExpect(status().isNoContent());
+
+        verify(averageEarningsService).recordMonth("E-1", YearMonth.of(2026, 4), new BigDecimal("50000"), 0);
+    }
+
+    @Test
+    void shouldReturn400WhenEarningsAreNegative() throws Exception {
+        //When + Then
+        mockMvc.perform(post("/payroll/E-1/months")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"month\":\"2026-04\",\"earnings\":-1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"))
+                .andExpect(jsonPath("$.details.earnings").value("The earnings should not be negative"));
+
+        verifyNoInteractions(averageEarningsService);
+    }
+
+    @Test
+    void shouldReturnAverageForVacationMonth() throws Exception {
+        //Given
+        when(averageEarningsService.average("E-1", YearMonth.of(2026, 5))).thenReturn(new AverageEarnings(
+                YearMonth.of(2025, 5), YearMonth.of(2026, 4), new BigDecimal("600000.00"),
+                new BigDecimal("348.670000"), new BigDecimal("1720.82"), new BigDecimal("50420.026")));
+
+        //When + Then
+        mockMvc.perform(get("/payroll/E-1/average").param("month", "2026-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2025-05"))
+                .andExpect(jsonPath("$.to").value("2026-04"))
+                .andExpect(jsonPath("$.averageDaily").value(1720.82))
+                .andExpect(jsonPath("$.averageMonthly").value(50420.026));
+    }
+
+    @Test
+    void shouldReturn400WhenNoPayrollHistory() throws Exception {
+        //Given
+        when(averageEarningsService.average(anyString(), any()))
+                .thenThrow(new InvalidInputException("No payroll history for employee: unknown"));
+
+        //When + Then
+        mockMvc.perform(get("/payroll/unknown/average"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid input"))
+                .andExpect(jsonPath("$.message").value("No payroll history for employee: unknown"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.batch.BatchCalculationProcessor;
+import com.example.vacation_pay_calculator.batch.BatchExecutor;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.wire.BinaryResult;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VacationPayBatchController.class)
+@Import({BatchCalculationProcessor.class, BatchExecutor.class})
+public class VacationPayBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VacationPayCalculatorService service;
+
+    @MockBean
+    private CalculationMetrics metrics;
+
+    @Test
+    void shouldCalculateEachItemOfJsonArrayAndReportErrorsInline() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+        when(service.calculate(argThat(request -> request != null && request.getAverageSalary() == 40000.0)))
+                .thenThrow(new IllegalArgumentException("The end date must be later than or equal to the start date"));
+
+        String body = "["
+                + "{\"averageSalary\": 15000.0, \"vacationDays\": 14},"
+                + "{\"averageSalary\": -1, \"vacationDays\": 14},"
+                + "{\"averageSalary\": \"abc\"},"
+                + "{\"averageSalary\": 40000.0, \"startDate\": \"2026-02-23\", \"endDate\": \"2026-02-27\"}"
+                + "]";
+
+        //When + Then
+        mockMvc.perform(post("/calculate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].vacationPay").value(7167.24))
+                .andExpect(jsonPath("$[1].error").value("Validation failed"))
+                .andExpect(jsonPath("$[1].details.averageSalary").value("The average salary should be a positive number"))
+                .andExpect(jsonPath("$[2].error").value("Invalid input"))
+                .andExpect(jsonPath("$[3].error").value("Invalid input"))
+                .andExpect(jsonPath("$[3].message").value("The end date must be later than or equal to the start date"));
+    }
+
+    @Test
+    void shouldReportFailureOfOneItemAsInternalErrorAndContinue() throws Exception {
+        //Given: расчёт второго элемента падает не из-за входных данных
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("511.95")));
+        when(service.calculate(argThat(request -> request != null && request.getAverageSalary() == 40000.0)))
+                .thenThrow(new IllegalStateException("Payroll history is unavailable"));
+
+        String body = "{\"averageSalary\": 15000.0, \"vacationDays\": 1}\n"
+                + "{\"averageSalary\": 40000.0, \"vacationDays\": 1}\n"
+                + "{\"averageSalary\": 15000.0, \"vacationDays\": 1}\n";
+
+        //When + Then: текст исключения наружу не попадает, следующий элемент посчитан
+        mockMvc.perform(post("/calculate/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"index\":0,\"vacationPay\":511.95}\n"
+                        + "{\"index\":1,\"status\":500,\"error\":\"Internal server error\"}\n"
+                        + "{\"index\":2,\"vacationPay\":511.95}\n"));
+    }
+
+    @Test
+    void shouldStreamNdjson() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("511.95")));
+
+        String body = "{\"averageSalary\": 15000.0, \"vacationDays\": 1}\n"
+                + "{\"averageSalary\": 15000.0, \"vacationDays\": 1}\n";
+
+        //When + Then
+        mockMvc.perform(post("/calculate/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"index\":0,\"vacationPay\":511.95}\n"
+                        + "{\"index\":1,\"vacationPay\":511.95}\n"));
+    }
+
+    @Test
+    void shouldReportMalformedJsonAsLastItem() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("511.95")));
+
+        String body = "[{\"averageSalary\": 15000.0, \"vacationDays\": 1}, {\"averageSalary\": ";
+
+        //When + Then
+        mockMvc.perform(post("/calculate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].error").value("Malformed input"));
+    }
+
+    @Test
+    void shouldCalculateBinaryRecordsInOrderAndReportTruncatedTail() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("511.95")));
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        BinaryWireFormat.writeRequest(new CalculateVacationPayRequest(15000.0, 1, null, null, null, null, null, null), records);
+        BinaryWireFormat.writeRequest(new CalculateVacationPayRequest(-1.0, 1, null, null, null, null, null, null), records);
+        BinaryWireFormat.writeRequest(new CalculateVacationPayRequest(15000.0, 1, null, null, null, null, null, null), records);
+        byte[] body = Arrays.copyOf(records.toByteArray(), records.size() - 5);
+
+        //When
+        byte[] response = mockMvc.perform(post("/calculate/batch")
+                        .contentType(BinaryWireFormat.MEDIA_TYPE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryWireFormat.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //Then
+        InputStream results = new ByteArrayInputStream(response);
+        BinaryResult first = BinaryWireFormat.readResult(results);
+        assertThat(first.getStatus()).isEqualTo(BinaryWireFormat.STATUS_OK);
+        assertThat(first.getVacationPay()).isEqualByComparingTo("511.95");
+        BinaryResult second = BinaryWireFormat.readResult(results);
+        assertThat(second.getStatus()).isEqualTo(BinaryWireFormat.STATUS_VALIDATION_FAILED);
+        assertThat(second.getDetails()).containsKey("averageSalary");
+        assertThat(BinaryWireFormat.readResult(results).getStatus()).isEqualTo(BinaryWireFormat.STATUS_MALFORMED_INPUT);
+        assertThat(BinaryWireFormat.readResult(results)).isNull();
+    }
+}
@@ -2,7 +2,10 @@ package com.example.vacation_pay_calculator.controller;
 
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
 import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import com.example.vacation_pay_calculator.wire.BinaryResult;
+import com.example.vacation_pay_calculator.wire.BinaryWireFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,23 +13,42 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(VacationPayCalculatorController.class)
 public class VacationPayCalculatorControllerTest {
 
+    /**
+     * Тексты ошибок {@code typeMismatch} стандартного связывания; быстрое связывание обязано возвращать такие же
+     */
+    static final String SALARY_TYPE_MISMATCH = "Failed to convert value of type 'java.lang.String' to required type "
+            + "'java.lang.Double'; nested exception is java.lang.NumberFormatException: For input string: \"abc\"";
+    static final String START_DATE_TYPE_MISMATCH = "Failed to convert value of type 'java.lang.String' to required type "
+            + "'java.time.LocalDate'; nested exception is org.springframework.core.convert.ConversionFailedException: "
+            + "Failed to convert from type [java.lang.String] to type [@org.springframework.format.annotation.DateTimeFormat "
+            + "java.time.LocalDate] for value '2026-02-30'; nested exception is java.lang.IllegalArgumentException: "
+            + "Parse attempt failed for value [2026-02-30]";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private VacationPayCalculatorService service;
 
+    @MockBean
+    private CalculationMetrics metrics;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -61,4 +83,81 @@ public class VacationPayCalculatorControllerTest {
                         .param("vacationDays", "0"))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void shouldReturn400WhenParameterCannotBeConverted() throws Exception {
+        //When + Then: проверки всего запроса при ошибке преобразования не выполняются
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "abc")
+                        .param("vacationDays", "14"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.averageSalary").value(SALARY_TYPE_MISMATCH));
+
+        mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "15000.0")
+                        .param("startDate", "2026-02-30")
+                        .param("endDate", "2026-03-05"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.startDate").value(START_DATE_TYPE_MISMATCH))
+                .andExpect(jsonPath("$.details.datesValid").doesNotExist());
+    }
+
+    @Test
+    void shouldExchangeBinaryRecordsWhenNegotiated() throws Exception {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        BinaryWireFormat.writeRequest(new CalculateVacationPayRequest(
+                15000.0, null, LocalDate.of(2026, 5, 12), LocalDate.of(2026, 5, 25), "ru", null, null, null), request);
+
+        //When
+        byte[] body = mockMvc.perform(post("/calculate")
+                        .contentType(BinaryWireFormat.MEDIA_TYPE)
+                        .accept(BinaryWireFormat.MEDIA_TYPE)
+                        .content(request.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //Then
+        BinaryResult result = BinaryWireFormat.readResult(new ByteArrayInputStream(body));
+        assertThat(result.getStatus()).isEqualTo(BinaryWireFormat.STATUS_OK);
+        assertThat(result.getVacationPay()).isEqualByComparingTo("7167.24");
+    }
+
+    @Test
+    void shouldReturnBinaryInvalidInputWhenAmountExceedsRecordRange() throws Exception {
+        //Given: JSON вернул бы сумму как есть, а в long копеек она не помещается
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("100000000000000000.00")));
+
+        //When
+        byte[] body = mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "1e300")
+                        .param("vacationDays", "14")
+                        .accept(BinaryWireFormat.MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //Then
+        BinaryResult result = BinaryWireFormat.readResult(new ByteArrayInputStream(body));
+        assertThat(result.getStatus()).isEqualTo(BinaryWireFormat.STATUS_INVALID_INPUT);
+        assertThat(result.getDetails()).containsEntry("message", BinaryWireFormat.OUT_OF_RANGE_MESSAGE);
+    }
+
+    @Test
+    void shouldReturnBinaryValidationErrorWhenBinaryIsAccepted() throws Exception {
+        //When
+        byte[] body = mockMvc.perform(get("/calculate")
+                        .param("averageSalary", "-15000.0")
+                        .param("vacationDays", "14")
+                        .accept(BinaryWireFormat.MEDIA_TYPE))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //Then
+        BinaryResult result = BinaryWireFormat.readResult(new ByteArrayInputStream(body));
+        assertThat(result.getStatus()).isEqualTo(BinaryWireFormat.STATUS_VALIDATION_FAILED);
+        assertThat(result.getDetails()).containsEntry("averageSalary", "The average salary should be a positive number");
+    }
 }
@@ -0,0 +1,132 @@
+package com.example.vacation_pay_calculator.controller;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import com.example.vacation_pay_calculator.service.impl.BigDecimalPayCalculationEngine;
+import com.example.vacation_pay_calculator.service.impl.PaidDaysPolicies;
+import com.example.vacation_pay_calculator.service.impl.VacationPaySweepServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(VacationPaySweepController.class)
+@Import({VacationPaySweepServiceImpl.class, BigDecimalPayCalculationEngine.class})
+public class VacationPaySweepControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PaidDaysPolicies paidDaysPolicies;
+
+    @MockBean
+    private HolidayService holidayService;
+
+    @MockBean
+    private CalculationMetrics metrics;
+
+    @Test
+    void shouldReturnResultForEveryStartDate() throws Exception {
+        //Given: календарь выбирается по арендатору и региону, правило — по имени из запроса
+        ProductionCalendar calendar = CalendarSourceParser.parse("ru", new StringReader("2026 holidays 05-11\n"));
+        PaidDaysPolicy policy = mock(PaidDaysPolicy.class);
+        when(paidDaysPolicies.get("working-days")).thenReturn(policy);
+        when(holidayService.calendar("acme", "ru")).thenReturn(calendar);
+        when(policy.paidDaysSweep(calendar, LocalDate.of(2026, 5, 10), 3, 14)).thenReturn(new long[]{10, 9, 9});
+
+        //When + Then
+        mockMvc.perform(get("/calculate/sweep")
+                        .param("averageSalary", "15000.0")
+                        .param("vacationDays", "14")
+                        .param("from", "2026-05-10")
+                        .param("to", "2026-05-12")
+                        .param("region", "ru")
+                        .param("paidDaysPolicy", "working-days")
+                        .param("tenant", "acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].startDate").value("2026-05-10"))
+                .andExpect(jsonPath("$.results[0].endDate").value("2026-05-23"))
+                .andExpect(jsonPath("$.results[0].paidDays").value(10))
+                .andExpect(jsonPath("$.results[0].vacationPay").value(5119.45))
+                .andExpect(jsonPath("$.results[1].startDate").value("2026-05-11"))
+                .andExpect(jsonPath("$.results[1].paidDays").value(9))
+                .andExpect(jsonPath("$.results[1].vacationPay").value(4607.51))
+                .andExpect(jsonPath("$.results[2].startDate").value("2026-05-12"))
+                .andExpect(jsonPath("$.results[2].endDate").value("2026-05-25"));
+    }
+
+    @Test
+    void shouldCalculateAmountsBeyondKopecksRangeLikeCalculate() throws Exception {
+        //Given: 1e300 × 10 дней не помещается в long копеек
+        ProductionCalendar calendar = CalendarSourceParser.parse("ru", new StringReader("2026 holidays 05-11\n"));
+        PaidDaysPolicy policy = mock(PaidDaysPolicy.class);
+        when(paidDaysPolicies.get(null)).thenReturn(policy);
+        when(holidayService.calendar(null, null)).thenReturn(calendar);
+        when(policy.paidDaysSweep(calendar, LocalDate.of(2026, 5, 10), 1, 14)).thenReturn(new long[]{10});
+
+        //When + Then
+        mockMvc.perform(get("/calculate/sweep")
+                        .param("averageSalary", "1e300")
+                        .param("vacationDays", "14")
+                        .param("from", "2026-05-10")
+                        .param("to", "2026-05-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].paidDays").value(10))
+                .andExpect(jsonPath("$.results[0].vacationPay").isNumber());
+    }
+
+    @Test
+    void shouldRejectWindowLongerThanMaxStartDates() throws Exception {
+        //When + Then: с 1 января 2026 по 2 января 2027 — 367 дат начала
+        mockMvc.perform(get("/calculate/sweep")
+                        .param("averageSalary", "15000.0")
+                        .param("vacationDays", "14")
+                        .param("from", "2026-01-01")
+                        .param("to", "2027-01-02"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid input"))
+                .andExpect(jsonPath("$.message").value("The start date window must not exceed 366 days"));
+
+        verifyNoInteractions(paidDaysPolicies, holidayService);
+    }
+
+    @Test
+    void shouldReturn400WhenParametersAreInvalid() throws Exception {
+        //When + Then
+        mockMvc.perform(get("/calculate/sweep")
+                        .param("averageSalary", "15000.0")
+                        .param("vacationDays", "14")
+                        .param("to", "2026-05-12"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"))
+                .andExpect(jsonPath("$.details.from").value("The first start date must be provided"));
+
+        mockMvc.perform(get("/calculate/sweep")
+                        .param("averageSalary", "15000.0")
+                        .param("vacationDays", "14")
+                        .param("from", "2026-05-12")
+                        .param("to", "2026-05-10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.windowValid")
+                        .value("The last start date must be later than or equal to the first start date"));
+
+        verifyNoInteractions(paidDaysPolicies, holidayService);
+    }
+}
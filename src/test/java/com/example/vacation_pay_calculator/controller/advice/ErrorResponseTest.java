@@ -0,0 +1,61 @@
+package com.example.vacation_pay_calculator.controller.advice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldRenderInvalidInputWithEscapedMessage() throws IOException {
+        // Given: сообщение с кавычками, обратной косой чертой, переводом строки и кириллицей
+        String message = "Unknown calendar region: \"x\\y\"\nрегион";
+
+        // When
+        JsonNode json = objectMapper.readTree(ErrorResponse.invalidInput(message).toJson());
+
+        // Then
+        assertThat(json.get("status").asInt()).isEqualTo(400);
+        assertThat(json.get("error").asText()).isEqualTo("Invalid input");
+        assertThat(json.get("message").asText()).isEqualTo(message);
+        assertThat(LocalDateTime.parse(json.get("timestamp").asText())).isNotNull();
+    }
+
+    @Test
+    void shouldRenderValidationDetailsInOrder() throws IOException {
+        // Given
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        fieldErrors.put("averageSalary", "The average salary should be a positive number");
+        fieldErrors.put("vacationDays", "The number of vacation days must be at least 1");
+
+        // When
+        JsonNode json = objectMapper.readTree(ErrorResponse.validationFailed(fieldErrors).toJson());
+
+        // Then
+        assertThat(json.get("status").asInt()).isEqualTo(400);
+        assertThat(json.get("error").asText()).isEqualTo("Validation failed");
+        assertThat(json.get("details").fieldNames()).toIterable().containsExactly("averageSalary", "vacationDays");
+        assertThat(json.get("details").get("vacationDays").asText()).isEqualTo("The number of vacation days must be at least 1");
+        assertThat(json.has("message")).isFalse();
+    }
+
+    @Test
+    void shouldRenderInternalErrorWithoutDetails() throws IOException {
+        // When
+        JsonNode json = objectMapper.readTree(ErrorResponse.internalError().toJson());
+
+        // Then
+        assertThat(json.get("status").asInt()).isEqualTo(500);
+        assertThat(json.get("error").asText()).isEqualTo("Internal server error");
+        assertThat(json.get("message").asText()).isEqualTo("An unexpected error occurred. Please check your request.");
+    }
+}
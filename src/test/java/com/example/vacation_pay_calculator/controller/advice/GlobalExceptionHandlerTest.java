@@ -0,0 +1,101 @@
+package com.example.vacation_pay_calculator.controller.advice;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.InvalidInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new CalculationMetrics(meterRegistry));
+
+    @Test
+    void shouldCountValidationFailuresByFieldAndType() {
+        // Given
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(
+                new CalculateVacationPayRequest(-1.0, 0, null, null, null, null, null, null), "request");
+        bindingResult.addError(new FieldError("request", "averageSalary", "The average salary should be a positive number"));
+        bindingResult.addError(new FieldError("request", "vacationDays", "The number of vacation days must be at least 1"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleBindException(new BindException(bindingResult));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getType()).isEqualTo(ErrorType.VALIDATION_FAILED);
+        assertThat(validationFailures("averageSalary")).isEqualTo(1);
+        assertThat(validationFailures("vacationDays")).isEqualTo(1);
+        assertErrors(1, 0, 0);
+    }
+
+    @Test
+    void shouldCountInvalidInput() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleIllegalArgument(
+                new InvalidInputException("The end date must be later than or equal to the start date"));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("The end date must be later than or equal to the start date");
+        assertErrors(0, 1, 0);
+    }
+
+    @Test
+    void shouldCountUnreadableBodyAsInvalidInput() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleNotReadable(new HttpMessageNotReadableException(
+                "JSON parse error", new IllegalStateException("Unexpected end of input"), new MockHttpInputMessage(new byte[0])));
+
+        // Then
+        assertThat(response.getBody().getMessage()).isEqualTo("Unexpected end of input");
+        assertErrors(0, 1, 0);
+    }
+
+    @Test
+    void shouldCountWrappedIllegalArgumentAsInvalidInput() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleGeneralException(
+                new IllegalStateException(new IllegalArgumentException("Unknown calendar region: xx")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Unknown calendar region: xx");
+        assertErrors(0, 1, 0);
+    }
+
+    @Test
+    void shouldCountUnexpectedExceptionAsInternalError() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleGeneralException(new IllegalStateException("boom"));
+
+        // Then: текст исключения наружу не отдаётся
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).doesNotContain("boom");
+        assertErrors(0, 0, 1);
+    }
+
+    private void assertErrors(double validationFailed, double invalidInput, double internalError) {
+        assertThat(errors(ErrorType.VALIDATION_FAILED)).isEqualTo(validationFailed);
+        assertThat(errors(ErrorType.INVALID_INPUT)).isEqualTo(invalidInput);
+        assertThat(errors(ErrorType.INTERNAL_ERROR)).isEqualTo(internalError);
+    }
+
+    private double errors(ErrorType type) {
+        return meterRegistry.get("vacation.errors").tag("type", type.getTag()).counter().count();
+    }
+
+    private double validationFailures(String field) {
+        return meterRegistry.get("vacation.validation.failures").tag("field", field).counter().count();
+    }
+}
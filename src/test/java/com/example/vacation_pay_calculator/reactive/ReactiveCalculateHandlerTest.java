@@ -0,0 +1,151 @@
+package com.example.vacation_pay_calculator.reactive;
+
+import com.example.vacation_pay_calculator.binding.CalculateRequestBinder;
+import com.example.vacation_pay_calculator.controller.advice.ErrorResponse;
+import com.example.vacation_pay_calculator.controller.advice.ErrorType;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ReactiveCalculateHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VacationPayCalculatorService service;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        service = mock(VacationPayCalculatorService.class);
+        ReactiveCalculateHandler handler = new ReactiveCalculateHandler(service,
+                new CalculateRequestBinder(),
+                new CalculationMetrics(meterRegistry));
+
+        client = WebTestClient.bindToRouterFunction(new ReactiveWebConfiguration().calculateRoute(handler)).build();
+    }
+
+    @Test
+    void shouldReturn200AndCorrectVacationPayWhenValidQueryParams() {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenReturn(new CalculateVacationPayResponse(new BigDecimal("7167.24")));
+
+        //When + Then
+        client.get().uri("/calculate?averageSalary=15000.0&vacationDays=14")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.vacationPay").isEqualTo(7167.24);
+    }
+
+    @Test
+    void shouldCalculateOutsideEventLoop() {
+        //Given
+        AtomicReference<String> calculatedOn = new AtomicReference<>();
+        when(service.calculate(any(CalculateVacationPayRequest.class))).thenAnswer(invocation -> {
+            calculatedOn.set(Thread.currentThread().getName());
+            return new CalculateVacationPayResponse(new BigDecimal("7167.24"));
+        });
+
+        //When
+        client.get().uri("/calculate?averageSalary=15000.0&startDate=2026-05-12&endDate=2026-05-25")
+                .exchange()
+                .expectStatus().isOk();
+
+        //Then
+        assertThat(calculatedOn.get()).startsWith("boundedElastic");
+    }
+
+    @Test
+    void shouldReturn400WithFieldDetailsWhenSalaryIsNegative() {
+        //When + Then
+        client.get().uri("/calculate?averageSalary=-15000.0&vacationDays=14")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation failed")
+                .jsonPath("$.details.averageSalary").isEqualTo("The average salary should be a positive number");
+
+        assertThat(meterRegistry.get("vacation.validation.failures").tag("field", "averageSalary").counter().count())
+                .isEqualTo(1);
+        assertThat(errors(ErrorType.VALIDATION_FAILED)).isEqualTo(1);
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void shouldReturn400WhenParameterCannotBeConverted() {
+        //When + Then
+        client.get().uri("/calculate?averageSalary=abc&vacationDays=14")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.details.averageSalary").isEqualTo("Failed to convert value of type 'java.lang.String' "
+                        + "to required type 'java.lang.Double'; nested exception is java.lang.NumberFormatException: For input string: \"abc\"");
+    }
+
+    @Test
+    void shouldReturn400WhenServiceRejectsRequest() {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenThrow(new IllegalArgumentException("Unknown calendar region: xx"));
+
+        //When + Then
+        client.get().uri("/calculate?averageSalary=15000.0&startDate=2026-05-12&endDate=2026-05-16&region=xx")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid input")
+                .jsonPath("$.message").isEqualTo("Unknown calendar region: xx");
+
+        assertThat(errors(ErrorType.INVALID_INPUT)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturn500AndCountInternalErrorWhenCalculationFails() {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenThrow(new IllegalStateException("Payroll history is unavailable"));
+
+        //When + Then: вместо текста исключения — общее сообщение, как в servlet-режиме
+        client.get().uri("/calculate?averageSalary=15000.0&vacationDays=14")
+                .exchange()
+                .expectStatus().isEqualTo(500)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Internal server error")
+                .jsonPath("$.message").isEqualTo(ErrorResponse.internalError().getMessage());
+
+        assertThat(errors(ErrorType.INTERNAL_ERROR)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturn400WhenWrappedCauseIsInvalidInput() {
+        //Given
+        when(service.calculate(any(CalculateVacationPayRequest.class)))
+                .thenThrow(new IllegalStateException(new IllegalArgumentException("Unknown calendar region: xx")));
+
+        //When + Then
+        client.get().uri("/calculate?averageSalary=15000.0&vacationDays=14&region=xx")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid input")
+                .jsonPath("$.message").isEqualTo("Unknown calendar region: xx");
+
+        assertThat(errors(ErrorType.INVALID_INPUT)).isEqualTo(1);
+    }
+
+    private double errors(ErrorType type) {
+        return meterRegistry.get("vacation.errors").tag("type", type.getTag()).counter().count();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
+import com.example.vacation_pay_calculator.payroll.PayrollRepository;
+import com.example.vacation_pay_calculator.payroll.PayrollTotals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AverageEarningsServiceImplTest {
+
+    private EmbeddedDatabase database;
+    private PayrollRepository repository;
+    private AverageEarningsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        repository = new PayrollRepository(new JdbcTemplate(database));
+        service = new AverageEarningsServiceImpl(repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void shouldComputeAverageDailyEarningsForFullYear() {
+        // Given: 12 полных месяцев по 50 000 руб.
+        for (int i = 0; i < 12; i++) {
+            service.recordMonth("E-1", YearMonth.of(2025, 5).plusMonths(i), new BigDecimal("50000"), 0);
+        }
+
+        // When
+        AverageEarnings average = service.average("E-1", YearMonth.of(2026, 5));
+
+        // Then: 600 000 / (12 × 29.3) = 1706.48
+        assertThat(average.getFrom()).isEqualTo(YearMonth.of(2025, 5));
+        assertThat(average.getTo()).isEqualTo(YearMonth.of(2026, 4));
+        assertThat(average.getCountedDays()).isEqualByComparingTo("351.6");
+        assertThat(average.getAverageDaily()).isEqualByComparingTo("1706.48");
+        assertThat(average.getAverageMonthly()).isEqualByComparingTo("50000.864");
+    }
+
+    @Test
+    void shouldCountExcludedDaysProportionally() {
+        // Given: в июне 2026 (30 дней) 10 дней больничного
+        service.recordMonth("E-1", YearMonth.of(2026, 6), new BigDecimal("20000"), 10);
+
+        // When
+        AverageEarnings average = service.average("E-1", YearMonth.of(2026, 7));
+
+        // Then: 29.3 / 30 × 20 = 19.533333
+        assertThat(average.getCountedDays()).isEqualByComparingTo("19.533333");
+        assertThat(average.getAverageDaily()).isEqualByComparingTo("1023.89");
+    }
+
+    @Test
+    void shouldApplyCorrectionOfMonthInsideWindow() {
+        // Given
+        service.recordMonth("E-1", YearMonth.of(2026, 1), new BigDecimal("30000"), 0);
+        service.recordMonth("E-1", YearMonth.of(2026, 2), new BigDecimal("30000"), 0);
+
+        // When: январь пересчитан
+        service.recordMonth("E-1", YearMonth.of(2026, 1), new BigDecimal("10000"), 5);
+
+        // Then
+        PayrollTotals aggregate = repository.findAggregate("E-1");
+        assertThat(aggregate.getLastMonth()).isEqualTo(YearMonth.of(2026, 2));
+        assertThat(aggregate.getEarningsKopecks()).isEqualTo(4_000_000L);
+        assertThat(aggregate.getCountedDays()).isEqualByComparingTo(
+                AverageEarningsServiceImpl.countedDays(YearMonth.of(2026, 1), 5).add(new BigDecimal("29.3")));
+    }
+
+    @Test
+    void shouldKeepAggregateEqualToFullRescan() {
+        // Given: начисления в случайном порядке с пропусками, исправлениями и месяцами старше окна
+        Random random = new Random(42);
+        YearMonth origin = YearMonth.of(2020, 1);
+
+        for (int i = 0; i < 400; i++) {
+            YearMonth month = origin.plusMonths(Math.min(i / 6 + random.nextInt(8), 80));
+            int excludedDays = random.nextInt(4) == 0 ? random.nextInt(month.lengthOfMonth() + 1) : 0;
+            BigDecimal earnings = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+
+            // When
+            service.recordMonth("E-1", month, earnings, excludedDays);
+
+            // Then: накопленные суммы совпадают с пересчётом окна по всем строкам
+            PayrollTotals aggregate = repository.findAggregate("E-1");
+            PayrollTotals rescan = repository.sumMonths("E-1",
+                    aggregate.getLastMonth().minusMonths(11), aggregate.getLastMonth());
+            assertThat(aggregate.getEarningsKopecks()).isEqualTo(rescan.getEarningsKopecks());
+            assertThat(aggregate.getCountedDays()).isEqualByComparingTo(rescan.getCountedDays());
+        }
+    }
+
+    @Test
+    void shouldThrowWhenEmployeeHasNoHistory() {
+        assertThatThrownBy(() -> service.average("unknown", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No payroll history for employee: unknown");
+    }
+
+    @Test
+    void shouldThrowWhenExcludedDaysExceedMonth() {
+        assertThatThrownBy(() -> service.recordMonth("E-1", YearMonth.of(2026, 2), BigDecimal.TEN, 29))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The number of excluded days must be between 0 and 28");
+    }
+}
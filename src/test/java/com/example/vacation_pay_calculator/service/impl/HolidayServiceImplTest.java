@@ -0,0 +1,128 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.CalendarConfiguration;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendar;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HolidayServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HolidayService holidayService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        holidayService = new HolidayServiceImpl(new TenantCalendarRegistry(new CalendarConfiguration()
+                .productionCalendarRegistry("classpath*:calendars/*.cal", "ru")),
+                new CalculationMetrics(meterRegistry));
+    }
+
+    @Test
+    void shouldRecognizeHolidaysAndWorkingDays() {
+        assertThat(holidayService.isHoliday(LocalDate.of(2026, 1, 1))).isTrue();
+        assertThat(holidayService.isHoliday(LocalDate.of(2026, 12, 31))).isTrue();
+        assertThat(holidayService.isHoliday(LocalDate.of(2026, 5, 12))).isFalse();
+        assertThat(holidayService.isHoliday(LocalDate.of(2025, 12, 31))).isTrue();
+        assertThat(holidayService.isHoliday(LocalDate.of(2027, 1, 1))).isFalse();
+    }
+
+    @Test
+    void shouldCountHolidaysInPeriod() {
+        // Given: 23–27 февраля 2026, праздник только 23 февраля
+        LocalDate start = LocalDate.of(2026, 2, 23);
+        LocalDate end = LocalDate.of(2026, 2, 27);
+
+        // When + Then
+        assertThat(holidayService.countHolidays(start, end)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountAllHolidaysOfYear() {
+        // Given: весь 2026 год — 16 праздничных дней
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 12, 31);
+
+        // When + Then
+        assertThat(holidayService.countHolidays(start, end)).isEqualTo(16);
+    }
+
+    @Test
+    void shouldCountHolidaysAcrossYears() {
+        // Given: с 30 декабря 2024 по 9 января 2026 — 2 + 17 + 9 праздничных дней
+        LocalDate start = LocalDate.of(2024, 12, 30);
+        LocalDate end = LocalDate.of(2026, 1, 9);
+
+        // When + Then
+        assertThat(holidayService.countHolidays(start, end)).isEqualTo(2 + 17 + 9);
+    }
+
+    @Test
+    void shouldClampPeriodOutsideCalendar() {
+        // Given: период с 2020 по 2030 год — учитываются только годы, заданные в календаре
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDate end = LocalDate.of(2030, 12, 31);
+
+        // When + Then
+        assertThat(holidayService.countHolidays(start, end)).isEqualTo(19 + 17 + 16);
+        assertThat(holidayService.countHolidays(LocalDate.of(2027, 1, 1), end)).isZero();
+    }
+
+    @Test
+    void shouldCountWorkingDaysBySchedule() {
+        // Given: 2026 год — 247 рабочих дней при пятидневке; 27 апреля 2024 — рабочая суббота
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 12, 31);
+        LocalDate saturday = LocalDate.of(2024, 4, 27);
+
+        // When + Then
+        assertThat(holidayService.countWorkingDays(null, null, WorkSchedule.fiveDayWeek(), start, end)).isEqualTo(247);
+        assertThat(holidayService.countWorkingDays(null, null, WorkSchedule.fiveDayWeek(), saturday, saturday)).isEqualTo(1);
+        // 23 февраля – 1 марта 2026: по шестидневке рабочие 24–28 февраля
+        assertThat(holidayService.countWorkingDays(null, null, WorkSchedule.sixDayWeek(),
+                LocalDate.of(2026, 2, 23), LocalDate.of(2026, 3, 1))).isEqualTo(5);
+        // Два через два без учёта праздников: 1–8 января 2026 — 4 смены
+        assertThat(holidayService.countWorkingDays(null, null, WorkSchedule.cyclic("shift", "WW--", start, false),
+                start, LocalDate.of(2026, 1, 8))).isEqualTo(4);
+        // За пределами календаря учитываются только выходные: 4–10 января 2027
+        assertThat(holidayService.countWorkingDays(null, null, WorkSchedule.fiveDayWeek(),
+                LocalDate.of(2027, 1, 4), LocalDate.of(2027, 1, 10))).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCountEachCalendarLookup() {
+        // Given
+        LocalDate start = LocalDate.of(2026, 5, 12);
+        LocalDate end = LocalDate.of(2026, 5, 25);
+
+        // When: четыре обращения к календарю, календарь для прохода по дням выбирается один раз и проверяется дважды
+        holidayService.isHoliday(start);
+        holidayService.countHolidays(start, end);
+        holidayService.countWorkingDays(null, null, WorkSchedule.fiveDayWeek(), start, end);
+        ProductionCalendar calendar = holidayService.calendar(null, null);
+        calendar.isHoliday(start.toEpochDay());
+        calendar.isHoliday(end.toEpochDay());
+
+        // Then
+        assertThat(meterRegistry.get("vacation.holiday.lookups").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectUnknownRegion() {
+        LocalDate date = LocalDate.of(2026, 1, 1);
+
+        assertThatThrownBy(() -> holidayService.countHolidays(null, "xx", date, date))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown calendar region: xx");
+    }
+}
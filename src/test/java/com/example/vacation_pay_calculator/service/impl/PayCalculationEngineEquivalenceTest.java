@@ -0,0 +1,91 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.service.PayCalculationEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PayCalculationEngineEquivalenceTest {
+
+    private final PayCalculationEngine reference = new BigDecimalPayCalculationEngine();
+    private final PayCalculationEngine fixedPoint = new FixedPointPayCalculationEngine();
+
+    @ParameterizedTest
+    @CsvSource({
+            "15000.0, 14, 7167.24",
+            "15000.0, 1, 511.95",
+            "40000.0, 4, 5460.75",
+            "0.01, 1, 0.00",
+            "0.15, 1, 0.01",
+            "29.3, 1, 1.00",
+            "14.65, 1, 0.50",
+            "48750.55, 0, 0.00"
+    })
+    void shouldMatchKnownValues(double averageSalary, long paidDays, String expected) {
+        assertThat(reference.vacationPay(averageSalary, paidDays)).isEqualTo(new BigDecimal(expected));
+        assertThat(fixedPoint.vacationPay(averageSalary, paidDays)).isEqualTo(new BigDecimal(expected));
+    }
+
+    @Test
+    void shouldMatchReferenceForRandomKopeckSalaries() {
+        // Given: зарплаты с точностью до рубля, десятков копеек и копеек
+        Random random = new Random(20260101);
+
+        for (int i = 0; i < 300_000; i++) {
+            double averageSalary;
+            switch (i % 3) {
+                case 0:
+                    averageSalary = 1 + random.nextInt(10_000_000);
+                    break;
+                case 1:
+                    averageSalary = (1 + random.nextInt(100_000_000)) / 10.0;
+                    break;
+                default:
+                    averageSalary = (1 + random.nextInt(1_000_000_000)) / 100.0;
+                    break;
+            }
+            long paidDays = random.nextInt(3_660);
+
+            // When + Then: совпадают и значение, и масштаб
+            assertEquivalent(averageSalary, paidDays);
+        }
+    }
+
+    @Test
+    void shouldMatchReferenceForArbitraryDoubles() {
+        // Given: произвольные double — большинство уходит в эталонный путь
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            double averageSalary = Math.pow(10, random.nextDouble() * 14 - 2);
+            long paidDays = random.nextInt(36_600);
+
+            assertEquivalent(averageSalary, paidDays);
+        }
+    }
+
+    @Test
+    void shouldMatchReferenceNearRoundingBoundaries() {
+        // Given: суммы, у которых дробная часть копейки близка к половине
+        for (long kopecks = 1; kopecks < 2_000_000; kopecks += 293) {
+            for (long paidDays = 1; paidDays <= 31; paidDays++) {
+                assertEquivalent(kopecks / 100.0, paidDays);
+            }
+        }
+    }
+
+    private void assertEquivalent(double averageSalary, long paidDays) {
+        BigDecimal expected = reference.vacationPay(averageSalary, paidDays);
+
+        assertThat(fixedPoint.vacationPay(averageSalary, paidDays))
+                .as("averageSalary=%s, paidDays=%s", averageSalary, paidDays)
+                .isEqualTo(expected);
+        assertThat(fixedPoint.vacationPayKopecks(averageSalary, paidDays))
+                .isEqualTo(expected.unscaledValue().longValueExact());
+    }
+}
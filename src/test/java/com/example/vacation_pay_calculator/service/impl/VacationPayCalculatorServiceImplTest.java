@@ -1,7 +1,10 @@
 package com.example.vacation_pay_calculator.service.impl;
 
+import com.example.vacation_pay_calculator.calendar.WorkSchedule;
+import com.example.vacation_pay_calculator.dto.AverageEarnings;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
 import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.example.vacation_pay_calculator.service.AverageEarningsService;
 import com.example.vacation_pay_calculator.service.HolidayService;
 import com.example.vacation_pay_calculator.service.VacationPayCalculatorService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +17,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,18 +33,23 @@ public class VacationPayCalculatorServiceImplTest {
     @Mock
     private HolidayService holidayService;
 
+    @Mock
+    private AverageEarningsService averageEarningsService;
+
     private VacationPayCalculatorService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new VacationPayCalculatorServiceImpl(holidayService);
+        service = new VacationPayCalculatorServiceImpl(new BigDecimalPayCalculationEngine(),
+                new PaidDaysPolicyConfiguration().paidDaysPolicies(holidayService, List.of(), CalendarDaysPolicy.NAME),
+                averageEarningsService);
     }
 
     @Test
     public void shouldCalculateCorrectlyForTypicalCase() {
         // Given: средняя зарплата 15 000 ₽, отпуск 14 дней
-        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 14, null, null);
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 14, null, null, null, null, null, null);
 
         // When: рассчитываем отпускные
         CalculateVacationPayResponse response = service.calculate(request);
@@ -51,7 +62,7 @@ public class VacationPayCalculatorServiceImplTest {
     @Test
     public void shouldCalculateCorrectlyForOneVacationDayCase() {
         // Given: средняя зарплата 15 000 ₽, отпуск 1 день
-        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 1, null, null);
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 1, null, null, null, null, null, null);
 
         // When: рассчитываем отпускные
         CalculateVacationPayResponse response = service.calculate(request);
@@ -64,18 +75,19 @@ public class VacationPayCalculatorServiceImplTest {
     @Test
     public void shouldThrowExceptionWhenSalaryIsNegative() {
         // Given: средняя зарплата -15 000 ₽, отпуск 14 дней
-        CalculateVacationPayRequest request = new CalculateVacationPayRequest(-15000.0, 14, null, null);
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(-15000.0, 14, null, null, null, null, null, null);
 
-        // When + Then: ожидаем получить исключение при расчете отпускных
+        // When + Then: ожидаем получить исключение при расчете отпускных, без стека
         assertThatThrownBy(() -> service.calculate(request))
                 .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("The average salary should be more than zero");
+                .hasMessage("The average salary should be more than zero")
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
     }
 
     @Test
     public void shouldThrowExceptionWhenVacationDaysIsZero() {
         // Given: средняя зарплата 15 000 ₽, отпуск 0 дней
-        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 0, null, null);
+        CalculateVacationPayRequest request = new CalculateVacationPayRequest(15000.0, 0, null, null, null, null, null, null);
 
         // When + Then: ожидаем получить исключение при расчете отпускных
         assertThatThrownBy(() -> service.calculate(request))
@@ -98,7 +110,7 @@ public class VacationPayCalculatorServiceImplTest {
                 .build();
 
         // Mock: все дни — не праздники
-        when(holidayService.isHoliday(any(LocalDate.class))).thenReturn(false);
+        when(holidayService.countHolidays(any(), any(), any(LocalDate.class), any(LocalDate.class))).thenReturn(0L);
 
         // When
         CalculateVacationPayResponse response = service.calculate(request);
@@ -126,7 +138,7 @@ public class VacationPayCalculatorServiceImplTest {
                 .build();
 
         //Mock: только 23 февраля — праздник, остальные дни — нет
-        when(holidayService.isHoliday(eq(LocalDate.of(2026, 2, 23)))).thenReturn(true);
+        when(holidayService.countHolidays(isNull(), isNull(), eq(start), eq(end))).thenReturn(1L);
 
         //When
         CalculateVacationPayResponse response = service.calculate(request);
@@ -158,4 +170,66 @@ public class VacationPayCalculatorServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("The end date must be later than or equal to the start date");
     }
+
+    @Test
+    void shouldCalculateByDatesCountingWorkingDaysWhenPolicyRequested() {
+        //Given: 23 февраля – 1 марта 2026, по пятидневке 4 рабочих дня (23 февраля — праздник)
+        LocalDate start = LocalDate.of(2026, 2, 23);
+        LocalDate end = LocalDate.of(2026, 3, 1);
+
+        CalculateVacationPayRequest request = CalculateVacationPayRequest.builder()
+                .averageSalary(40000.0)
+                .startDate(start)
+                .endDate(end)
+                .paidDaysPolicy("working-days")
+                .build();
+
+        when(holidayService.countWorkingDays(isNull(), isNull(), any(WorkSchedule.class), eq(start), eq(end))).thenReturn(4L);
+
+        //When
+        CalculateVacationPayResponse response = service.calculate(request);
+
+        //Then
+        BigDecimal expected = BigDecimal.valueOf(40000)
+                .divide(BigDecimal.valueOf(29.3), 10, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(4))
+                .setScale(2, RoundingMode.HALF_UP);
+        assertThat(response.getVacationPay()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPolicyIsUnknown() {
+        //Given
+        CalculateVacationPayRequest request = CalculateVacationPayRequest.builder()
+                .averageSalary(40000.0)
+                .startDate(LocalDate.of(2026, 2, 23))
+                .endDate(LocalDate.of(2026, 3, 1))
+                .paidDaysPolicy("four-day-week")
+                .build();
+
+        //When + Then
+        assertThatThrownBy(() -> service.calculate(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown paid days policy: four-day-week");
+    }
+
+    @Test
+    void shouldUseAverageEarningsFromPayrollWhenSalaryIsNotProvided() {
+        // Given: средний дневной заработок 1000 руб. за 12 месяцев до мая 2026
+        when(averageEarningsService.average("E-1", YearMonth.of(2026, 5))).thenReturn(new AverageEarnings(
+                YearMonth.of(2025, 5), YearMonth.of(2026, 4), new BigDecimal("351600.00"),
+                new BigDecimal("351.600000"), new BigDecimal("1000.00"), new BigDecimal("29300.000")));
+
+        CalculateVacationPayRequest request = CalculateVacationPayRequest.builder()
+                .employeeId("E-1")
+                .startDate(LocalDate.of(2026, 5, 18))
+                .endDate(LocalDate.of(2026, 5, 31))
+                .build();
+
+        // When
+        CalculateVacationPayResponse response = service.calculate(request);
+
+        // Then: 14 дней × 1000 руб.
+        assertThat(response.getVacationPay()).isEqualByComparingTo("14000.00");
+    }
 }
@@ -0,0 +1,99 @@
+package com.example.vacation_pay_calculator.service.impl;
+
+import com.example.vacation_pay_calculator.calendar.CalendarSourceParser;
+import com.example.vacation_pay_calculator.calendar.ProductionCalendarRegistry;
+import com.example.vacation_pay_calculator.calendar.TenantCalendarRegistry;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.SweepVacationPayResponse;
+import com.example.vacation_pay_calculator.metrics.CalculationMetrics;
+import com.example.vacation_pay_calculator.service.HolidayService;
+import com.example.vacation_pay_calculator.service.PaidDaysPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VacationPaySweepServiceImplTest {
+
+    private static final String CALENDAR = "2025 holidays 12-31\n"
+            + "2026 holidays 01-01..01-09 02-23 03-09 05-01 05-11 06-12 11-04 12-31\n"
+            + "2026 workdays 01-10\n";
+
+    private HolidayService holidayService;
+    private PaidDaysPolicies policies;
+    private VacationPaySweepServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ProductionCalendarRegistry registry = new ProductionCalendarRegistry(
+                Map.of("ru", CalendarSourceParser.parse("ru", new StringReader(CALENDAR))), "ru");
+        holidayService = new HolidayServiceImpl(new TenantCalendarRegistry(registry), new CalculationMetrics(new SimpleMeterRegistry()));
+        policies = new PaidDaysPolicyConfiguration().paidDaysPolicies(
+                holidayService, List.of("shift-2x2:WW--:2026-01-01:holidays"), CalendarDaysPolicy.NAME);
+        service = new VacationPaySweepServiceImpl(new BigDecimalPayCalculationEngine(), policies, holidayService, 366);
+    }
+
+    @Test
+    void shouldMatchPerDateCalculationForEveryPolicy() {
+        // Given: окно с конца 2025 по весну 2027 пересекает годы календаря и выходит за его пределы
+        LocalDate from = LocalDate.of(2025, 12, 1);
+        int starts = 366;
+
+        for (String name : policies.getNames()) {
+            PaidDaysPolicy policy = policies.get(name);
+            for (int duration : new int[]{1, 14, 28, 120}) {
+                // When
+                long[] swept = policy.paidDaysSweep(holidayService.calendar(null, null), from, starts, duration);
+
+                // Then
+                for (int i = 0; i < starts; i++) {
+                    LocalDate start = from.plusDays(i);
+                    assertThat(swept[i])
+                            .as("%s, %d days from %s", name, duration, start)
+                            .isEqualTo(policy.paidDays(null, null, start, start.plusDays(duration - 1L)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnPayForEveryStartDate() {
+        // Given: 14 дней с 28 декабря 2025 по 3 января 2026
+        SweepVacationPayRequest request = new SweepVacationPayRequest(
+                15000.0, 14, LocalDate.of(2025, 12, 28), LocalDate.of(2026, 1, 3), null, null, null);
+
+        // When
+        SweepVacationPayResponse response = service.sweep(request);
+
+        // Then: первый период (28.12–10.01) включает 10 праздников, последний (03.01–16.01) — 7
+        assertThat(response.getResults()).hasSize(7);
+        SweepVacationPayResponse.Result first = response.getResults().get(0);
+        assertThat(first.getStartDate()).isEqualTo(LocalDate.of(2025, 12, 28));
+        assertThat(first.getEndDate()).isEqualTo(LocalDate.of(2026, 1, 10));
+        assertThat(first.getPaidDays()).isEqualTo(4);
+        assertThat(first.getVacationPay()).isEqualTo(new BigDecimal("2047.78"));
+        assertThat(response.getResults().get(6).getPaidDays()).isEqualTo(7);
+        assertThat(response.getResults().get(6).getVacationPay()).isEqualTo(new BigDecimal("3583.62"));
+    }
+
+    @Test
+    void shouldRejectTooWideWindow() {
+        // Given
+        SweepVacationPayRequest request = new SweepVacationPayRequest(
+                15000.0, 14, LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 2), null, null, null);
+
+        // When + Then
+        assertThatThrownBy(() -> service.sweep(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The start date window must not exceed 366 days");
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.vacation_pay_calculator.wire;
+
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayRequest;
+import com.example.vacation_pay_calculator.dto.CalculateVacationPayResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinaryWireFormatTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void shouldEncodeBenchmarkMessagesMoreCompactlyThanJson() throws IOException {
+        // Given: сценарии days и range из WireFormatBenchmark
+        CalculateVacationPayRequest days = new CalculateVacationPayRequest(48750.55, 14, null, null, null, null, null, null);
+        CalculateVacationPayRequest range = new CalculateVacationPayRequest(48750.55, null,
+                LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 14), "ru", "working-days", null, null);
+        CalculateVacationPayResponse response = new CalculateVacationPayResponse(new BigDecimal("23293.73"));
+
+        // When
+        byte[] binaryDays = binaryRequest(days);
+        byte[] binaryRange = binaryRequest(range);
+        ByteArrayOutputStream binaryResponse = new ByteArrayOutputStream();
+        BinaryWireFormat.writeSuccess(response.getVacationPay(), binaryResponse);
+
+        // Then: фиксированная часть и строки «ru» и «working-days»; результат — статус и long
+        assertThat(binaryDays).hasSize(24);
+        assertThat(binaryRange).hasSize(24 + 2 + 12);
+        assertThat(binaryResponse.size()).isEqualTo(1 + Long.BYTES);
+        assertThat(objectMapper.writeValueAsBytes(days).length).isGreaterThan(binaryDays.length);
+        assertThat(objectMapper.writeValueAsBytes(range).length).isGreaterThan(binaryRange.length);
+        assertThat(objectMapper.writeValueAsBytes(response).length).isGreaterThan(binaryResponse.size());
+    }
+
+    @Test
+    void shouldWriteAmountOutsideLongKopecksAsInvalidInput() throws IOException {
+        // Given: 10^17 рублей — 10^19 копеек, больше Long.MAX_VALUE
+        BigDecimal vacationPay = new BigDecimal("1E+17").setScale(2);
+        BigDecimal largest = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryWireFormat.writeSuccess(vacationPay, out);
+        BinaryWireFormat.writeSuccess(largest, out);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        // Then
+        BinaryResult overflow = BinaryWireFormat.readResult(in);
+        assertThat(BinaryWireFormat.isRepresentable(vacationPay)).isFalse();
+        assertThat(overflow.getStatus()).isEqualTo(BinaryWireFormat.STATUS_INVALID_INPUT);
+        assertThat(overflow.getDetails()).containsEntry("message", BinaryWireFormat.OUT_OF_RANGE_MESSAGE);
+        assertThat(BinaryWireFormat.readResult(in).getVacationPay()).isEqualByComparingTo(largest);
+    }
+
+    private static byte[] binaryRequest(CalculateVacationPayRequest request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryWireFormat.writeRequest(request, out);
+        return out.toByteArray();
+    }
+}